@@ -0,0 +1,142 @@
+package com.inkSpire.application.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.inkSpire.application.dto.blogPost.PostDto;
+import com.inkSpire.application.dto.comment.CommentDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Bounded in-process cache of rendered {@link PostDto}s keyed by post id.
+ * <p>
+ * Entries are weighed by the characters of their title, content and comments, so a few very long posts cannot
+ * crowd out the rest. Writers invalidate the posts they touch; when called inside a transaction the entry is
+ * dropped again after commit, so a concurrent read cannot re-cache the uncommitted state.
+ * <p>
+ * Misses go through a {@link SingleFlight}, so concurrent misses of the same post share one database fetch and
+ * mapping. A load that overlaps an invalidation still answers its callers but is not kept in the cache.
+ * Hit, miss and eviction counts are published to Micrometer under the {@code posts} cache name.
+ *
+ * @author Maran.C
+ */
+@Component
+public class PostCache {
+
+    /**
+     * Fixed weight charged per post and per comment for the object headers, dates and author.
+     */
+    private static final int ENTRY_OVERHEAD = 256;
+
+    private final Cache<Long, PostDto> posts;
+    private final SingleFlight<Long, PostDto> loads;
+    private final AtomicLong invalidations = new AtomicLong();
+    private final Counter coalescedLoads;
+
+    public PostCache(@Value("${inkspire.post-cache.maximum-weight:50000000}") long maximumWeight,
+                     @Value("${inkspire.post-cache.expire-after-write-seconds:3600}") long expireAfterWriteSeconds,
+                     @Value("${inkspire.post-cache.load-timeout-millis:5000}") long loadTimeoutMillis,
+                     MeterRegistry meterRegistry) {
+        this.posts = Caffeine.newBuilder()
+                .maximumWeight(maximumWeight)
+                .weigher((Long postId, PostDto post) -> weightOf(post))
+                .expireAfterWrite(Duration.ofSeconds(expireAfterWriteSeconds))
+                .recordStats()
+                .build();
+        this.loads = new SingleFlight<>(loadTimeoutMillis);
+        CaffeineCacheMetrics.monitor(meterRegistry, posts, "posts");
+        this.coalescedLoads = Counter.builder("cache.loads.coalesced")
+                .description("Cache misses that joined a load already in flight")
+                .tag("cache", "posts")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Gets a post from the cache, loading and caching it on a miss.
+     * The loader runs on the calling thread of the first miss; concurrent misses wait for its result.
+     *
+     * @param postId The ID of the post.
+     * @param loader The function rendering the post from the database.
+     * @return The cached or freshly loaded post.
+     */
+    public PostDto get(Long postId, Function<Long, PostDto> loader) {
+        PostDto cached = posts.getIfPresent(postId);
+        if (cached != null) {
+            return cached;
+        }
+        return loads.execute(postId, () -> load(postId, loader), coalescedLoads::increment);
+    }
+
+    /**
+     * Removes a post from the cache.
+     *
+     * @param postId The ID of the post that was written.
+     */
+    public void invalidate(Long postId) {
+        invalidateAll(List.of(postId));
+    }
+
+    /**
+     * Removes the given posts from the cache, now and again after the current transaction commits.
+     *
+     * @param postIds The IDs of the posts that were written.
+     */
+    public void invalidateAll(Collection<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return;
+        }
+        invalidateNow(postIds);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidateNow(postIds);
+                }
+            });
+        }
+    }
+
+    private PostDto load(Long postId, Function<Long, PostDto> loader) {
+        long generation = invalidations.get();
+        PostDto post = loader.apply(postId);
+        posts.put(postId, post);
+        if (invalidations.get() != generation) {
+            // The post may have been written while it was loading; drop what may be the old state.
+            posts.invalidate(postId);
+        }
+        return post;
+    }
+
+    private void invalidateNow(Collection<Long> postIds) {
+        invalidations.incrementAndGet();
+        for (Long postId : postIds) {
+            loads.forget(postId);
+        }
+        posts.invalidateAll(postIds);
+    }
+
+    private static int weightOf(PostDto post) {
+        long weight = ENTRY_OVERHEAD + length(post.getTitle()) + length(post.getContent());
+        if (post.getComments() != null) {
+            for (CommentDto comment : post.getComments()) {
+                weight += ENTRY_OVERHEAD + length(comment.getContent());
+            }
+        }
+        return (int) Math.min(weight, Integer.MAX_VALUE);
+    }
+
+    private static int length(String value) {
+        return value == null ? 0 : value.length();
+    }
+}
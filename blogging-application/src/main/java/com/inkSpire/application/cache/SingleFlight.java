@@ -0,0 +1,113 @@
+package com.inkSpire.application.cache;
+
+import com.inkSpire.application.exception.LoadTimeoutException;
+
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent loads of the same key into one in-flight call.
+ * <p>
+ * The first caller for a key runs the loader on its own thread; callers arriving while it runs wait for its
+ * result, up to the configured timeout, instead of loading again. A failure of the loader is rethrown to every
+ * waiter as-is, and nothing is remembered once the load completes, so the next miss starts a fresh load.
+ *
+ * @param <K> The type of the keys.
+ * @param <V> The type of the loaded values.
+ * @author Maran.C
+ */
+public final class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final long timeoutMillis;
+
+    /**
+     * Creates a coalescing layer.
+     *
+     * @param timeoutMillis How long a waiter waits for the in-flight load before giving up.
+     */
+    public SingleFlight(long timeoutMillis) {
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    /**
+     * Loads the value of a key, joining the in-flight load of the same key if there is one.
+     *
+     * @param key    The key to load.
+     * @param loader The loader, run only if no load of the key is in flight.
+     * @return The loaded value.
+     * @throws LoadTimeoutException if the in-flight load does not complete within the timeout.
+     */
+    public V execute(K key, Supplier<V> loader) {
+        return execute(key, loader, () -> {
+        });
+    }
+
+    /**
+     * Loads the value of a key, joining the in-flight load of the same key if there is one.
+     *
+     * @param key    The key to load.
+     * @param loader The loader, run only if no load of the key is in flight.
+     * @param onJoin Run on the calling thread, before waiting, when the call joins a load already in flight.
+     * @return The loaded value.
+     * @throws LoadTimeoutException if the in-flight load does not complete within the timeout.
+     */
+    public V execute(K key, Supplier<V> loader, Runnable onJoin) {
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            onJoin.run();
+            return await(key, existing);
+        }
+        try {
+            V value = loader.get();
+            flight.complete(value);
+            return value;
+        } catch (RuntimeException | Error failure) {
+            flight.completeExceptionally(failure);
+            throw failure;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    /**
+     * Detaches the in-flight load of a key, so later callers start a new load instead of joining it.
+     * Callers already waiting still receive the result of the detached load.
+     *
+     * @param key The key whose data has changed.
+     */
+    public void forget(K key) {
+        inFlight.remove(key);
+    }
+
+    /**
+     * Checks whether a load of the key is in flight.
+     *
+     * @param key The key.
+     * @return True if a caller is currently loading the key.
+     */
+    public boolean isInFlight(K key) {
+        return inFlight.containsKey(key);
+    }
+
+    private V await(K key, CompletableFuture<V> flight) {
+        try {
+            return flight.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException exception) {
+            Throwable cause = exception.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(cause);
+        } catch (TimeoutException exception) {
+            throw new LoadTimeoutException("Timed out waiting for the load of " + key + ".");
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new LoadTimeoutException("Interrupted while waiting for the load of " + key + ".");
+        }
+    }
+}
@@ -1,6 +1,11 @@
 package com.inkSpire.application.common;
 
+import com.inkSpire.application.dto.job.DeleteJobStatus;
+import com.inkSpire.application.security.UserPrincipal;
 import org.slf4j.Logger;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
@@ -38,6 +43,31 @@ public class CommonServiceUtils {
         return null;
     }
 
+    /**
+     * Gets the typed principal of the currently logged-in user, as resolved by the authorization filter.
+     * Services use it to attach the user to new rows by reference instead of loading the user.
+     *
+     * @return The principal of the logged-in user, or null if not authenticated or the user id is unknown.
+     */
+    public UserPrincipal getLoggedInPrincipal() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof UserPrincipal principal) {
+            return principal;
+        }
+        return null;
+    }
+
+    /**
+     * Checks if the currently logged-in user has the ADMIN role.
+     *
+     * @return True if the user is authenticated as an administrator, false otherwise.
+     */
+    public boolean isLoggedInUserAdmin() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.getAuthorities().stream()
+                .anyMatch(authority -> "ROLE_ADMIN".equals(authority.getAuthority()));
+    }
+
     /**
      * Validates a post ID.
      *
@@ -103,4 +133,23 @@ public class CommonServiceUtils {
         response.setData(data);
         return response;
     }
+
+    /**
+     * Generates the response for a bulk delete job: 200 once it has completed, 202 with a Location header pointing to
+     * the job status while it is still running, and 500 if it failed.
+     *
+     * @param status The status of the job.
+     * @return The response entity describing the job.
+     */
+    public ResponseEntity<ApiResponse<DeleteJobStatus>> generateJobResponse(DeleteJobStatus status) {
+        return switch (status.getState()) {
+            case COMPLETED -> new ResponseEntity<>(generateResponse(true, "Deleted successfully.", status), HttpStatus.OK);
+            case RUNNING -> {
+                HttpHeaders headers = new HttpHeaders();
+                headers.add(HttpHeaders.LOCATION, "/blog-post/delete-jobs/" + status.getJobId());
+                yield new ResponseEntity<>(generateResponse(true, "Delete is in progress.", status), headers, HttpStatus.ACCEPTED);
+            }
+            case FAILED -> new ResponseEntity<>(generateResponse(false, "Delete failed.", status), HttpStatus.INTERNAL_SERVER_ERROR);
+        };
+    }
 }
@@ -0,0 +1,75 @@
+package com.inkSpire.application.common;
+
+import java.util.List;
+
+/**
+ * Represents one page of a keyset-paginated listing.
+ * The generic type parameter 'T' represents the type of the items on the page.
+ *
+ * @author Maran.C
+ */
+public class CursorPage<T> {
+
+    /**
+     * The items on this page, in listing order.
+     */
+    private List<T> items;
+
+    /**
+     * The opaque cursor to pass back to fetch the next page, or null if this is the last page.
+     */
+    private String nextCursor;
+
+    /**
+     * Default constructor for CursorPage.
+     */
+    public CursorPage() {
+    }
+
+    /**
+     * Constructs a CursorPage with the given items and next cursor.
+     *
+     * @param items      The items on this page.
+     * @param nextCursor The cursor of the next page, or null if there is none.
+     */
+    public CursorPage(List<T> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * Gets the items on this page.
+     *
+     * @return The items on this page.
+     */
+    public List<T> getItems() {
+        return items;
+    }
+
+    /**
+     * Sets the items on this page.
+     *
+     * @param items The items on this page.
+     */
+    public void setItems(List<T> items) {
+        this.items = items;
+    }
+
+    /**
+     * Gets the cursor of the next page.
+     *
+     * @return The cursor of the next page, or null if this is the last page.
+     */
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    /**
+     * Sets the cursor of the next page.
+     *
+     * @param nextCursor The cursor of the next page.
+     */
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+}
@@ -0,0 +1,60 @@
+package com.inkSpire.application.common;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Date;
+
+/**
+ * Keyset position in the post listing, ordered by creation date then post id, both descending.
+ * It is handed to clients as an opaque URL-safe token.
+ *
+ * @author Maran.C
+ */
+public final class PostCursor {
+
+    private final Date creationDate;
+    private final Long blogPostId;
+
+    public PostCursor(Date creationDate, Long blogPostId) {
+        this.creationDate = new Date(creationDate.getTime());
+        this.blogPostId = blogPostId;
+    }
+
+    public Date getCreationDate() {
+        return new Date(creationDate.getTime());
+    }
+
+    public Long getBlogPostId() {
+        return blogPostId;
+    }
+
+    /**
+     * Encodes this position as an opaque token.
+     *
+     * @return The encoded cursor.
+     */
+    public String encode() {
+        String raw = creationDate.getTime() + ":" + blogPostId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * Decodes a token produced by {@link #encode()}.
+     *
+     * @param cursor The encoded cursor.
+     * @return The decoded position.
+     * @throws IllegalArgumentException if the cursor is malformed.
+     */
+    public static PostCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII);
+            int separator = raw.indexOf(':');
+            return new PostCursor(
+                    new Date(Long.parseLong(raw.substring(0, separator))),
+                    Long.parseLong(raw.substring(separator + 1))
+            );
+        } catch (RuntimeException exception) {
+            throw new IllegalArgumentException("Invalid cursor.");
+        }
+    }
+}
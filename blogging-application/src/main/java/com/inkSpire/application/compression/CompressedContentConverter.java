@@ -0,0 +1,37 @@
+package com.inkSpire.application.compression;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Stores post bodies in a binary column through the {@link ContentCodec}, compressing the long ones.
+ * <p>
+ * Hibernate obtains converters from the Spring context, so the threshold and level come from configuration.
+ * The attribute is lazily fetched, so a body is only read and inflated when it is actually rendered; rendered posts
+ * are then served from the post cache without decoding again.
+ *
+ * @author Maran.C
+ */
+@Component
+@Converter
+public class CompressedContentConverter implements AttributeConverter<String, byte[]> {
+
+    private final ContentCodec codec;
+
+    public CompressedContentConverter(@Value("${inkspire.content-compression.threshold-bytes:1024}") int thresholdBytes,
+                                      @Value("${inkspire.content-compression.level:6}") int level) {
+        this.codec = new ContentCodec(thresholdBytes, level);
+    }
+
+    @Override
+    public byte[] convertToDatabaseColumn(String content) {
+        return codec.encode(content);
+    }
+
+    @Override
+    public String convertToEntityAttribute(byte[] stored) {
+        return codec.decode(stored);
+    }
+}
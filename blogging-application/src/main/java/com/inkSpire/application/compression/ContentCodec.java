@@ -0,0 +1,127 @@
+package com.inkSpire.application.compression;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Storage format of post bodies.
+ * <p>
+ * Bodies shorter than the threshold are stored as plain UTF-8, exactly like the TEXT column they replace. Longer
+ * bodies are deflated behind a six-byte header: the marker byte {@code 0xFF}, which never occurs in UTF-8, the format
+ * version, and the length of the UTF-8 text as a big-endian int. A body that does not shrink is stored plain.
+ * Decoding checks the first byte only, so plain rows written before compression existed read back unchanged.
+ * <p>
+ * Deflaters and inflaters hold native memory, so each thread reuses one of each.
+ *
+ * @author Maran.C
+ */
+public final class ContentCodec {
+
+    static final byte MARKER = (byte) 0xFF;
+    static final byte DEFLATE_V1 = 1;
+    static final int HEADER_LENGTH = 6;
+
+    private final int thresholdBytes;
+    private final ThreadLocal<Deflater> deflaters;
+    private final ThreadLocal<Inflater> inflaters = ThreadLocal.withInitial(Inflater::new);
+
+    /**
+     * @param thresholdBytes Bodies of at least this many UTF-8 bytes are compressed.
+     * @param level          The deflate level, from 1 (fastest) to 9 (smallest).
+     */
+    public ContentCodec(int thresholdBytes, int level) {
+        this.thresholdBytes = Math.max(HEADER_LENGTH + 1, thresholdBytes);
+        this.deflaters = ThreadLocal.withInitial(() -> new Deflater(level));
+    }
+
+    /**
+     * Checks whether a stored body is compressed.
+     *
+     * @param stored The stored bytes.
+     * @return True if the bytes carry the compression header.
+     */
+    public static boolean isCompressed(byte[] stored) {
+        return stored != null && stored.length >= HEADER_LENGTH && stored[0] == MARKER;
+    }
+
+    /**
+     * Encodes a body for storage.
+     *
+     * @param text The body.
+     * @return The plain UTF-8 bytes, or the header and deflated bytes when that is smaller.
+     */
+    public byte[] encode(String text) {
+        if (text == null) {
+            return null;
+        }
+        byte[] raw = text.getBytes(StandardCharsets.UTF_8);
+        if (raw.length < thresholdBytes) {
+            return raw;
+        }
+        Deflater deflater = deflaters.get();
+        deflater.reset();
+        deflater.setInput(raw);
+        deflater.finish();
+        // Anything that does not fit in fewer bytes than the plain text is not worth storing compressed.
+        byte[] out = new byte[raw.length];
+        int length = HEADER_LENGTH;
+        while (!deflater.finished()) {
+            if (length == out.length) {
+                return raw;
+            }
+            length += deflater.deflate(out, length, out.length - length);
+        }
+        if (length == out.length) {
+            return raw;
+        }
+        out[0] = MARKER;
+        out[1] = DEFLATE_V1;
+        out[2] = (byte) (raw.length >>> 24);
+        out[3] = (byte) (raw.length >>> 16);
+        out[4] = (byte) (raw.length >>> 8);
+        out[5] = (byte) raw.length;
+        return Arrays.copyOf(out, length);
+    }
+
+    /**
+     * Decodes a stored body.
+     *
+     * @param stored The stored bytes, compressed or plain.
+     * @return The body.
+     */
+    public String decode(byte[] stored) {
+        if (stored == null) {
+            return null;
+        }
+        if (!isCompressed(stored)) {
+            return new String(stored, StandardCharsets.UTF_8);
+        }
+        if (stored[1] != DEFLATE_V1) {
+            throw new IllegalStateException("Unknown content format version " + stored[1]);
+        }
+        int rawLength = ((stored[2] & 0xFF) << 24) | ((stored[3] & 0xFF) << 16) | ((stored[4] & 0xFF) << 8) | (stored[5] & 0xFF);
+        byte[] raw = new byte[rawLength];
+        Inflater inflater = inflaters.get();
+        inflater.reset();
+        inflater.setInput(stored, HEADER_LENGTH, stored.length - HEADER_LENGTH);
+        try {
+            int length = 0;
+            while (length < rawLength) {
+                int inflated = inflater.inflate(raw, length, rawLength - length);
+                if (inflated == 0 && (inflater.finished() || inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                length += inflated;
+            }
+            if (length != rawLength || !inflater.finished()) {
+                throw new IllegalStateException("Truncated compressed content: " + length + " of " + rawLength + " bytes.");
+            }
+        } catch (DataFormatException exception) {
+            throw new IllegalStateException("Corrupt compressed content.", exception);
+        }
+        return new String(raw, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,123 @@
+package com.inkSpire.application.compression;
+
+import com.inkSpire.application.repository.BlogPostRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Moves existing post bodies to the compressed storage format.
+ * <p>
+ * At startup the content column is converted from TEXT to LONGBLOB if it still has the old type; the bytes are kept,
+ * and plain UTF-8 reads back unchanged. Starting {@code start-delay-millis} after startup, every scheduled run then
+ * rewrites one batch of {@code batch-size} posts above the threshold that are still plain, in a transaction of its own,
+ * walking the posts in ID order, and runs are {@code pause-millis} apart. Only one batch runs at a time, so the shared
+ * scheduler is never held for long. Rows written meanwhile go through the converter, so one pass is enough; the worker
+ * stops once it reaches the end of the table.
+ *
+ * @author Maran.C
+ */
+@Component
+public class ContentCompressionMigrator {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ContentCompressionMigrator.class);
+
+    private final BlogPostRepository blogPostRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate batchTransaction;
+    private final boolean migrateSchema;
+    private final int thresholdBytes;
+    private final int batchSize;
+
+    private long lastMigratedId;
+    private long migrated;
+    private boolean finished;
+
+    public ContentCompressionMigrator(BlogPostRepository blogPostRepository,
+                                      JdbcTemplate jdbcTemplate,
+                                      PlatformTransactionManager transactionManager,
+                                      @Value("${inkspire.content-compression.migrate-schema:true}") boolean migrateSchema,
+                                      @Value("${inkspire.content-compression.threshold-bytes:1024}") int thresholdBytes,
+                                      @Value("${inkspire.content-compression.batch-size:200}") int batchSize) {
+        this.blogPostRepository = blogPostRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchTransaction = new TransactionTemplate(transactionManager);
+        this.batchTransaction.setPropagationBehavior(TransactionTemplate.PROPAGATION_REQUIRES_NEW);
+        this.migrateSchema = migrateSchema;
+        this.thresholdBytes = thresholdBytes;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Converts the content column to a binary type if it was created before compression existed.
+     */
+    @PostConstruct
+    public void migrateSchema() {
+        List<String> types = jdbcTemplate.queryForList("select data_type from information_schema.columns " +
+                "where table_schema = database() and table_name = 'blog_post' and column_name = 'content'", String.class);
+        if (types.isEmpty() || types.get(0).toLowerCase(Locale.ROOT).endsWith("blob")) {
+            return;
+        }
+        if (!migrateSchema) {
+            throw new IllegalStateException("blog_post.content is " + types.get(0) + " but compressed contents need " +
+                    "LONGBLOB; enable inkspire.content-compression.migrate-schema or alter the column.");
+        }
+        LOGGER.info("Converting blog_post.content from {} to LONGBLOB.", types.get(0));
+        jdbcTemplate.execute("alter table blog_post modify content longblob not null");
+    }
+
+    /**
+     * Compresses the next batch of plain post bodies, until the end of the table is reached.
+     */
+    @Scheduled(fixedDelayString = "${inkspire.content-compression.pause-millis:100}",
+            initialDelayString = "${inkspire.content-compression.start-delay-millis:60000}")
+    public void migrateContents() {
+        if (finished) {
+            return;
+        }
+        try {
+            int count = migrateBatch();
+            if (count == 0) {
+                finished = true;
+                LOGGER.info("Finished compressing existing post contents; {} posts visited.", migrated);
+                return;
+            }
+            migrated += count;
+        } catch (RuntimeException exception) {
+            // Resumes after the last migrated post on the next run.
+            LOGGER.error("Unable to compress post contents after post {}. cause: {}", lastMigratedId, exception.getMessage());
+        }
+    }
+
+    /**
+     * Rewrites one batch of plain post bodies, which the converter stores compressed, and moves the cursor past it.
+     * Bodies that do not shrink stay plain and are not visited again.
+     *
+     * @return The number of posts visited.
+     */
+    private int migrateBatch() {
+        List<Long> postIds = batchTransaction.execute(status -> {
+            List<Long> ids = blogPostRepository.findUncompressedContentIds(lastMigratedId, thresholdBytes, batchSize);
+            if (!ids.isEmpty()) {
+                for (Object[] row : blogPostRepository.findContentsByIds(ids)) {
+                    blogPostRepository.updateContent((Long) row[0], (String) row[1]);
+                }
+            }
+            return ids;
+        });
+        if (postIds == null || postIds.isEmpty()) {
+            return 0;
+        }
+        lastMigratedId = postIds.get(postIds.size() - 1);
+        return postIds.size();
+    }
+}
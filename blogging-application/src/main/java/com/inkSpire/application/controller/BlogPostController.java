@@ -2,19 +2,33 @@ package com.inkSpire.application.controller;
 
 import com.inkSpire.application.common.ApiResponse;
 import com.inkSpire.application.common.CommonServiceUtils;
+import com.inkSpire.application.common.CursorPage;
 import com.inkSpire.application.dto.blogPost.CategoryFilterRequest;
 import com.inkSpire.application.dto.blogPost.CreationRequest;
+import com.inkSpire.application.dto.blogPost.ImportReport;
 import com.inkSpire.application.dto.blogPost.PostDto;
+import com.inkSpire.application.dto.blogPost.PostSearchResultDto;
+import com.inkSpire.application.dto.blogPost.PostSummaryDto;
 import com.inkSpire.application.dto.blogPost.UpdateRequest;
+import com.inkSpire.application.dto.job.DeleteJobStatus;
+import com.inkSpire.application.service.BulkDeleteService;
+import com.inkSpire.application.service.PostExportService;
+import com.inkSpire.application.service.PostImportService;
 import com.inkSpire.application.service.impl.BlogPostServiceImpl;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
 import java.util.List;
+import java.util.Map;
 
 /**
  * This class defines the REST API endpoints for managing blog posts.
@@ -27,11 +41,21 @@ import java.util.List;
 
 public class BlogPostController {
     private final BlogPostServiceImpl blogPostService;
+    private final PostExportService postExportService;
+    private final PostImportService postImportService;
+    private final BulkDeleteService bulkDeleteService;
     private final CommonServiceUtils commonServiceUtils;
 
     @Autowired
-    public BlogPostController(BlogPostServiceImpl blogPostService, CommonServiceUtils commonServiceUtils) {
+    public BlogPostController(BlogPostServiceImpl blogPostService,
+                              PostExportService postExportService,
+                              PostImportService postImportService,
+                              BulkDeleteService bulkDeleteService,
+                              CommonServiceUtils commonServiceUtils) {
         this.blogPostService = blogPostService;
+        this.postExportService = postExportService;
+        this.postImportService = postImportService;
+        this.bulkDeleteService = bulkDeleteService;
         this.commonServiceUtils = commonServiceUtils;
     }
 
@@ -69,9 +93,9 @@ public class BlogPostController {
      * @return A response entity with the list of retrieved posts.
      */
     @GetMapping("/category")
-    public ResponseEntity<ApiResponse<List<PostDto>>> getAllPostForCategories(@RequestBody @NotNull @Valid CategoryFilterRequest request) {
+    public ResponseEntity<ApiResponse<List<PostSummaryDto>>> getAllPostForCategories(@RequestBody @NotNull @Valid CategoryFilterRequest request) {
         if (commonServiceUtils.isUserAuthenticated()) {
-            List<PostDto> posts = blogPostService.getAllPosts(request);
+            List<PostSummaryDto> posts = blogPostService.getAllPosts(request);
             return new ResponseEntity<>(
                     commonServiceUtils.generateResponse(
                             true,
@@ -92,12 +116,131 @@ public class BlogPostController {
     }
 
     /**
-     * Endpoint for retrieving all blog posts.
-     * @return A response entity with a list of all available blog posts.
+     * Endpoint for retrieving one page of blog posts for specified categories, highest post id first.
+     * @param request The request body containing category filter criteria and the page position.
+     * @return A response entity with a page of retrieved posts and the cursor of the next page.
+     */
+    @GetMapping("/category/page")
+    public ResponseEntity<ApiResponse<CursorPage<PostSummaryDto>>> getPostPageForCategories(@RequestBody @NotNull @Valid CategoryFilterRequest request) {
+        if (commonServiceUtils.isUserAuthenticated()) {
+            CursorPage<PostSummaryDto> posts = blogPostService.getPostPage(request);
+            return new ResponseEntity<>(
+                    commonServiceUtils.generateResponse(
+                            true,
+                            "Posts are retrieved.",
+                            posts
+                    ),
+                    HttpStatus.CREATED
+            );
+        } else {
+            return new ResponseEntity<>(
+                    commonServiceUtils.generateResponse(
+                            false,
+                            "Sign in or Sign up to see the post."
+                    ),
+                    HttpStatus.UNAUTHORIZED
+            );
+        }
+    }
+
+    /**
+     * Endpoint for exporting all blog posts as newline-delimited JSON.
+     * The posts are streamed from the database to the client, so the response can be arbitrarily large.
+     * @return A response entity whose body writes one post per line.
+     */
+    @GetMapping(value = "/export", produces = PostExportService.NDJSON)
+    public ResponseEntity<StreamingResponseBody> exportPosts() {
+        StreamingResponseBody body = postExportService::exportPosts;
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"posts.ndjson\"")
+                .contentType(MediaType.parseMediaType(PostExportService.NDJSON))
+                .body(body);
+    }
+
+    /**
+     * Endpoint for importing blog posts from newline-delimited JSON, authored by the logged-in user.
+     * The body is read as a stream, so it can be arbitrarily large.
+     * @param request The HTTP request whose body holds one post per line.
+     * @return A response entity with the number of imported posts and the errors of rejected lines.
+     * @throws IOException if reading the request body fails.
+     */
+    @PostMapping(value = "/import", consumes = PostExportService.NDJSON)
+    public ResponseEntity<ApiResponse<ImportReport>> importPosts(HttpServletRequest request) throws IOException {
+        ImportReport report = postImportService.importPosts(request.getInputStream());
+        return new ResponseEntity<>(
+                commonServiceUtils.generateResponse(
+                        report.getFailed() == 0,
+                        "Imported " + report.getImported() + " of " + report.getLines() + " posts.",
+                        report
+                ),
+                HttpStatus.OK
+        );
+    }
+
+    /**
+     * Endpoint for full-text search over the title and content of all blog posts.
+     * @param query The search query; quoted phrases and boolean operators are supported.
+     * @param page The zero-based page number; omit it for the first page.
+     * @param size The page size; omit it for the configured default.
+     * @return A response entity with the hits, best first, with highlighted snippets.
+     */
+    @GetMapping("/search")
+    public ResponseEntity<ApiResponse<List<PostSearchResultDto>>> searchPosts(@RequestParam(name = "q") String query,
+                                                                             @RequestParam(name = "page", required = false) Integer page,
+                                                                             @RequestParam(name = "size", required = false) Integer size) {
+        return new ResponseEntity<>(
+                commonServiceUtils.generateResponse(
+                        true,
+                        "Search results are retrieved.",
+                        blogPostService.searchPosts(query, page, size)
+                ),
+                HttpStatus.OK
+        );
+    }
+
+    /**
+     * Endpoint for counting the blog posts of every category.
+     * @return A response entity with the number of posts per category.
+     */
+    @GetMapping("/category/counts")
+    public ResponseEntity<ApiResponse<Map<String, Long>>> getCategoryCounts() {
+        return new ResponseEntity<>(
+                commonServiceUtils.generateResponse(
+                        true,
+                        "Category counts are retrieved.",
+                        blogPostService.getCategoryCounts()
+                ),
+                HttpStatus.OK
+        );
+    }
+
+    /**
+     * Endpoint for retrieving all blog posts, one keyset page at a time.
+     * @param cursor The cursor returned with the previous page; omit it for the first page.
+     * @param size The page size; omit it for the configured default.
+     * @return A response entity with a page of blog posts and the cursor of the next page.
      */
     @GetMapping("/all")
-    public ResponseEntity<List<PostDto>> getAllPosts() {
-        return new ResponseEntity<>(blogPostService.getAllPosts(), HttpStatus.OK);
+    public ResponseEntity<CursorPage<PostSummaryDto>> getAllPosts(@RequestParam(name = "cursor", required = false) String cursor,
+                                                           @RequestParam(name = "size", required = false) Integer size) {
+        return new ResponseEntity<>(blogPostService.getAllPosts(cursor, size), HttpStatus.OK);
+    }
+
+    /**
+     * Endpoint for retrieving a single blog post with its full content and comments.
+     * @param postId The ID of the post.
+     * @return A response entity with the requested post.
+     */
+    @GetMapping("/{postId}")
+    public ResponseEntity<ApiResponse<PostDto>> getPost(@PathVariable(name = "postId") Long postId) {
+        return new ResponseEntity<>(
+                commonServiceUtils.generateResponse(
+                        true,
+                        "Post retrieved.",
+                        blogPostService.getPost(postId)
+                ),
+                HttpStatus.OK
+        );
     }
 
     /**
@@ -105,9 +248,9 @@ public class BlogPostController {
      * @return A response entity with the list of posts belonging to the user.
      */
     @GetMapping
-    public ResponseEntity<ApiResponse<List<PostDto>>> getAllPostsForUser() {
+    public ResponseEntity<ApiResponse<List<PostSummaryDto>>> getAllPostsForUser() {
         if (commonServiceUtils.isUserAuthenticated()) {
-            List<PostDto> posts = blogPostService.getAllPostForUser();
+            List<PostSummaryDto> posts = blogPostService.getAllPostForUser();
             return new ResponseEntity<>(
                     commonServiceUtils.generateResponse(
                             true,
@@ -181,16 +324,14 @@ public class BlogPostController {
     }
 
     /**
-     * Endpoint for deleting all blog posts.
-     * @return A response entity indicating the result of the delete operation.
+     * Endpoint for deleting all blog posts of the logged-in user.
+     * Large deletes continue in the background and answer 202 with the job to poll.
+     * @return A response entity with the status of the delete job.
      */
     @DeleteMapping("/all")
-    public ResponseEntity<ApiResponse<String>> deleteAllPost() {
+    public ResponseEntity<ApiResponse<DeleteJobStatus>> deleteAllPost() {
         if (commonServiceUtils.isUserAuthenticated()) {
-            return new ResponseEntity<>(commonServiceUtils.generateResponse(
-                    true,
-                    blogPostService.deleteAllBlogPosts()
-            ), HttpStatus.OK);
+            return commonServiceUtils.generateJobResponse(blogPostService.deleteAllBlogPosts());
         } else {
             return new ResponseEntity<>(
                     commonServiceUtils.generateResponse(
@@ -201,4 +342,24 @@ public class BlogPostController {
             );
         }
     }
+
+    /**
+     * Endpoint for polling a bulk delete job started by the logged-in user.
+     * @param jobId The ID of the job.
+     * @return A response entity with the current status of the job.
+     */
+    @GetMapping("/delete-jobs/{jobId}")
+    public ResponseEntity<ApiResponse<DeleteJobStatus>> getDeleteJob(@PathVariable String jobId) {
+        if (commonServiceUtils.isUserAuthenticated()) {
+            return commonServiceUtils.generateJobResponse(bulkDeleteService.getJob(jobId));
+        } else {
+            return new ResponseEntity<>(
+                    commonServiceUtils.generateResponse(
+                            false,
+                            "Sign in or Sign up to view the delete job."
+                    ),
+                    HttpStatus.UNAUTHORIZED
+            );
+        }
+    }
 }
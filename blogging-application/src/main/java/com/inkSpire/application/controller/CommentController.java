@@ -5,6 +5,7 @@ import com.inkSpire.application.common.CommonServiceUtils;
 import com.inkSpire.application.dto.comment.CommentCreationRequest;
 import com.inkSpire.application.dto.comment.CommentDto;
 import com.inkSpire.application.dto.comment.CommentUpdateRequest;
+import com.inkSpire.application.dto.job.DeleteJobStatus;
 import com.inkSpire.application.service.impl.CommentServiceImpl;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
@@ -88,4 +89,25 @@ public class CommentController {
         }
     }
 
+    /**
+     * Endpoint for deleting all comments of a post, allowed to the author of the post or an administrator.
+     * Large deletes continue in the background and answer 202 with the job to poll.
+     * @param pId The ID of the post whose comments are deleted.
+     * @return A response entity with the status of the delete job.
+     */
+    @DeleteMapping("/all")
+    public ResponseEntity<ApiResponse<DeleteJobStatus>> deleteAllComments(@RequestParam(name = "pId") @Positive(message = "Invalid post ID.") Long pId) {
+        if (commonServiceUtils.isUserAuthenticated()) {
+            return commonServiceUtils.generateJobResponse(commentService.deleteAllComments(pId));
+        } else {
+            return new ResponseEntity<>(
+                    commonServiceUtils.generateResponse(
+                            false,
+                            "You are not authorized to delete comments."
+                    ),
+                    HttpStatus.UNAUTHORIZED
+            );
+        }
+    }
+
 }
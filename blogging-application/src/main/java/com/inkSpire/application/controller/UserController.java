@@ -7,10 +7,11 @@ import com.inkSpire.application.dto.authentication.AuthenticationResponse;
 import com.inkSpire.application.dto.user.UserRegistrationRequest;
 import com.inkSpire.application.dto.user.UserRegistrationResponse;
 import com.inkSpire.application.dto.user.UserUpdateResponse;
-import com.inkSpire.application.service.impl.JwtServiceImpl;
+import com.inkSpire.application.service.AuthTokenService;
 import com.inkSpire.application.service.impl.UserServiceImpl;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -23,13 +24,13 @@ import org.springframework.web.bind.annotation.*;
 @CrossOrigin("http://localhost:4200/sign-up")
 public class UserController {
     private final UserServiceImpl service;
-    private final JwtServiceImpl jwtService;
+    private final AuthTokenService authTokenService;
     private final CommonServiceUtils commonServiceUtils;
     private final AuthenticationManager manager;
 
-    public UserController(UserServiceImpl service, JwtServiceImpl jwtService, CommonServiceUtils commonServiceUtils, AuthenticationManager manager) {
+    public UserController(UserServiceImpl service, AuthTokenService authTokenService, CommonServiceUtils commonServiceUtils, AuthenticationManager manager) {
         this.service = service;
-        this.jwtService = jwtService;
+        this.authTokenService = authTokenService;
         this.commonServiceUtils = commonServiceUtils;
         this.manager = manager;
     }
@@ -41,7 +42,7 @@ public class UserController {
             return new ResponseEntity<>(
                     commonServiceUtils.generateResponse(
                             true,
-                            jwtService.generateAuthenticationResponse(request)
+                            authTokenService.issue(authentication)
                     ), HttpStatus.OK
             );
         } else {
@@ -52,6 +53,21 @@ public class UserController {
         }
     }
 
+    @PostMapping("/logout")
+    public ResponseEntity<ApiResponse<String>> logout(@RequestHeader(HttpHeaders.AUTHORIZATION) String authorization) {
+        if (commonServiceUtils.isUserAuthenticated() && authorization.startsWith("Bearer ")) {
+            return new ResponseEntity<>(commonServiceUtils.generateResponse(
+                    true,
+                    service.logout(authorization.substring(7))
+            ), HttpStatus.OK);
+        } else {
+            return new ResponseEntity<>(commonServiceUtils.generateResponse(
+                    false,
+                    "Authentication required to log out."
+            ), HttpStatus.UNAUTHORIZED);
+        }
+    }
+
     @PostMapping("/u-register")
     public ResponseEntity<UserRegistrationResponse> registerUser(@NotNull @Valid @RequestBody UserRegistrationRequest user) {
         return new ResponseEntity<>(service.saveUser(user), HttpStatus.CREATED);
@@ -4,12 +4,19 @@ import java.util.Set;
 
 /**
  * Represents a request object for filtering blog posts by categories.
+ * A post matches when it belongs to any of {@code categories} (or {@code categories} is empty), to every one of
+ * {@code allCategories} and to none of {@code excludedCategories}. {@code afterId} and {@code size} page the
+ * results by descending post id and are only read by the paged endpoint.
  *
  * @author Maran.C
  */
 public class CategoryFilterRequest {
 
     private Set<String> categories;
+    private Set<String> allCategories;
+    private Set<String> excludedCategories;
+    private Long afterId;
+    private Integer size;
 
     /**
      * Get the set of categories to filter by.
@@ -30,6 +37,78 @@ public class CategoryFilterRequest {
         this.categories = categories;
     }
 
+    /**
+     * Get the categories a post must all belong to.
+     *
+     * @return The set of required categories.
+     */
+    public Set<String> getAllCategories() {
+        return allCategories;
+    }
+
+    /**
+     * Set the categories a post must all belong to.
+     *
+     * @param allCategories The set of required categories.
+     */
+    public void setAllCategories(Set<String> allCategories) {
+        this.allCategories = allCategories;
+    }
+
+    /**
+     * Get the categories a post must not belong to.
+     *
+     * @return The set of excluded categories.
+     */
+    public Set<String> getExcludedCategories() {
+        return excludedCategories;
+    }
+
+    /**
+     * Set the categories a post must not belong to.
+     *
+     * @param excludedCategories The set of excluded categories.
+     */
+    public void setExcludedCategories(Set<String> excludedCategories) {
+        this.excludedCategories = excludedCategories;
+    }
+
+    /**
+     * Get the cursor of the page: only posts with a lower id are returned.
+     *
+     * @return The id of the last post of the previous page, or null for the first page.
+     */
+    public Long getAfterId() {
+        return afterId;
+    }
+
+    /**
+     * Set the cursor of the page.
+     *
+     * @param afterId The id of the last post of the previous page, or null for the first page.
+     */
+    public void setAfterId(Long afterId) {
+        this.afterId = afterId;
+    }
+
+    /**
+     * Get the requested page size.
+     *
+     * @return The page size, or null for the default.
+     */
+    public Integer getSize() {
+        return size;
+    }
+
+    /**
+     * Set the requested page size.
+     *
+     * @param size The page size, or null for the default.
+     */
+    public void setSize(Integer size) {
+        this.size = size;
+    }
+
     /**
      * Default constructor for CategoryFilterRequest.
      */
@@ -0,0 +1,94 @@
+package com.inkSpire.application.dto.blogPost;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Outcome of an NDJSON post import: how many lines were read, imported and rejected, and why.
+ *
+ * @author Maran.C
+ */
+public class ImportReport {
+
+    private long lines; // Number of non-blank lines read.
+    private long imported; // Number of posts written.
+    private long failed; // Number of lines rejected.
+    private boolean errorsTruncated; // Whether more errors occurred than are listed.
+    private final List<LineError> errors = new ArrayList<>(); // Reasons for rejected lines, in line order.
+
+    public long getLines() {
+        return lines;
+    }
+
+    public long getImported() {
+        return imported;
+    }
+
+    public long getFailed() {
+        return failed;
+    }
+
+    public boolean isErrorsTruncated() {
+        return errorsTruncated;
+    }
+
+    public List<LineError> getErrors() {
+        return errors;
+    }
+
+    /**
+     * Records lines read from the input.
+     *
+     * @param count The number of lines.
+     */
+    public void addLines(long count) {
+        lines += count;
+    }
+
+    /**
+     * Records posts written to the database.
+     *
+     * @param count The number of posts.
+     */
+    public void addImported(long count) {
+        imported += count;
+    }
+
+    /**
+     * Records a rejected line, keeping at most {@code maxErrors} reasons.
+     *
+     * @param line      The 1-based line number.
+     * @param message   Why the line was rejected.
+     * @param maxErrors The maximum number of reasons to keep.
+     */
+    public void addError(long line, String message, int maxErrors) {
+        failed++;
+        if (errors.size() < maxErrors) {
+            errors.add(new LineError(line, message));
+        } else {
+            errorsTruncated = true;
+        }
+    }
+
+    /**
+     * Why one line of the import was rejected.
+     */
+    public static class LineError {
+
+        private final long line;
+        private final String message;
+
+        public LineError(long line, String message) {
+            this.line = line;
+            this.message = message;
+        }
+
+        public long getLine() {
+            return line;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+    }
+}
@@ -1,11 +1,15 @@
 package com.inkSpire.application.dto.blogPost;
 
 import com.inkSpire.application.dto.comment.CommentDtoMapper;
+import com.inkSpire.application.dto.user.UserDto;
 import com.inkSpire.application.dto.user.UserDtoMapper;
 import com.inkSpire.application.entity.BlogPost;
+import com.inkSpire.application.entity.Comment;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+import java.util.Map;
 import java.util.function.Function;
 
 /**
@@ -24,7 +28,7 @@ public class PostDtoMapper implements Function<BlogPost, PostDto> {
      * Constructor for PostDtoMapper.
      *
      * @param userDtoMapper    Mapper for UserDto.
-     * @param commentDtoMapper Mapper for CommentDto.
+     * @param commentDtoMapper   Mapper for CommentDto.
      */
     @Autowired
     public PostDtoMapper(UserDtoMapper userDtoMapper, CommentDtoMapper commentDtoMapper) {
@@ -41,16 +45,51 @@ public class PostDtoMapper implements Function<BlogPost, PostDto> {
      */
     @Override
     public PostDto apply(BlogPost blogPost) {
+        return apply(blogPost, userDtoMapper.apply(blogPost.getAuthor()));
+    }
+
+    /**
+     * Maps a BlogPost entity to a PostDto object using an already known author.
+     * This avoids initializing the author when the post was bound to it by reference.
+     * Comments of deleted accounts waiting to be purged are left out.
+     *
+     * @param blogPost The BlogPost entity to be mapped.
+     * @param author   The author of the post.
+     * @return A PostDto object representing the mapped BlogPost.
+     */
+    public PostDto apply(BlogPost blogPost, UserDto author) {
+        return apply(blogPost, author, blogPost.getContent(), Map.of());
+    }
+
+    /**
+     * Maps a BlogPost entity to a PostDto object using contents already read by a batch query, so the lazily fetched
+     * content of the post and of its comments is not loaded one property at a time.
+     *
+     * @param blogPost        The BlogPost entity to be mapped.
+     * @param author          The author of the post.
+     * @param content         The content of the post.
+     * @param commentContents The content of the comments by comment ID; comments missing from it are read from the
+     *                        entity.
+     * @return A PostDto object representing the mapped BlogPost.
+     */
+    public PostDto apply(BlogPost blogPost, UserDto author, String content, Map<Long, String> commentContents) {
+        List<Comment> comments = blogPost.getComments().stream()
+                .filter(comment -> comment.getAuthor() == null || comment.getAuthor().isEnabled())
+                .toList();
         return new PostDto(
                 blogPost.getBlogPostId(),
                 blogPost.getTitle(),
-                blogPost.getContent(),
+                content,
                 blogPost.getCreationDate(),
                 blogPost.getLastModifiedDate(),
-                userDtoMapper.apply(blogPost.getAuthor()),
+                author,
                 blogPost.getCategories(),
-                blogPost.getComments().stream()
-                        .map(commentDtoMapper).toList()
+                comments.stream()
+                        .map(comment -> commentDtoMapper.apply(comment, userDtoMapper.apply(comment.getAuthor()),
+                                commentContents.containsKey(comment.getCommentId())
+                                        ? commentContents.get(comment.getCommentId())
+                                        : comment.getContent()))
+                        .toList()
         );
     }
 }
@@ -0,0 +1,109 @@
+package com.inkSpire.application.dto.blogPost;
+
+import java.util.Date;
+import java.util.Set;
+
+/**
+ * Data Transfer Object (DTO) representing one line of the NDJSON post export.
+ *
+ * @author Maran.C
+ */
+public class PostExportDto {
+
+    private Long blogPostId; // Unique identifier for the blog post.
+    private String title; // Title of the blog post.
+    private String content; // Content of the blog post.
+    private Date creationDate; // Date when the blog post was created.
+    private Date lastModifiedDate; // Date when the blog post was last modified.
+    private String authorEmail; // Email of the author of the blog post.
+    private Set<String> categories; // Categories associated with the blog post.
+
+    /**
+     * Default constructor for PostExportDto.
+     */
+    public PostExportDto() {
+    }
+
+    /**
+     * Constructor for PostExportDto with all fields.
+     *
+     * @param blogPostId       The unique identifier of the blog post.
+     * @param title            The title of the blog post.
+     * @param content          The content of the blog post.
+     * @param creationDate     The date when the blog post was created.
+     * @param lastModifiedDate The date when the blog post was last modified.
+     * @param authorEmail      The email of the author.
+     * @param categories       The categories of the blog post.
+     */
+    public PostExportDto(Long blogPostId,
+                         String title,
+                         String content,
+                         Date creationDate,
+                         Date lastModifiedDate,
+                         String authorEmail,
+                         Set<String> categories) {
+        this.blogPostId = blogPostId;
+        this.title = title;
+        this.content = content;
+        this.creationDate = creationDate;
+        this.lastModifiedDate = lastModifiedDate;
+        this.authorEmail = authorEmail;
+        this.categories = categories;
+    }
+
+    public Long getBlogPostId() {
+        return blogPostId;
+    }
+
+    public void setBlogPostId(Long blogPostId) {
+        this.blogPostId = blogPostId;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getContent() {
+        return content;
+    }
+
+    public void setContent(String content) {
+        this.content = content;
+    }
+
+    public Date getCreationDate() {
+        return creationDate;
+    }
+
+    public void setCreationDate(Date creationDate) {
+        this.creationDate = creationDate;
+    }
+
+    public Date getLastModifiedDate() {
+        return lastModifiedDate;
+    }
+
+    public void setLastModifiedDate(Date lastModifiedDate) {
+        this.lastModifiedDate = lastModifiedDate;
+    }
+
+    public String getAuthorEmail() {
+        return authorEmail;
+    }
+
+    public void setAuthorEmail(String authorEmail) {
+        this.authorEmail = authorEmail;
+    }
+
+    public Set<String> getCategories() {
+        return categories;
+    }
+
+    public void setCategories(Set<String> categories) {
+        this.categories = categories;
+    }
+}
@@ -0,0 +1,87 @@
+package com.inkSpire.application.dto.blogPost;
+
+import com.inkSpire.application.dto.comment.CommentImportRequest;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.PastOrPresent;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Data Transfer Object (DTO) for one line of an NDJSON post import.
+ * Dates are optional and default to the time of the import.
+ *
+ * @author Maran.C
+ */
+public class PostImportRequest {
+
+    /**
+     * The title of the blog post.
+     */
+    @NotBlank(message = "Title is required.")
+    private String title;
+
+    /**
+     * The content of the blog post.
+     */
+    @NotBlank(message = "Content is required.")
+    private String content;
+
+    /**
+     * The original creation date of the blog post.
+     */
+    @PastOrPresent(message = "Creation date must be in the past or present.")
+    private Date creationDate;
+
+    /**
+     * The categories associated with the blog post.
+     */
+    private Set<String> categories;
+
+    /**
+     * The comments to import with the blog post.
+     */
+    private List<@Valid CommentImportRequest> comments;
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getContent() {
+        return content;
+    }
+
+    public void setContent(String content) {
+        this.content = content;
+    }
+
+    public Date getCreationDate() {
+        return creationDate;
+    }
+
+    public void setCreationDate(Date creationDate) {
+        this.creationDate = creationDate;
+    }
+
+    public Set<String> getCategories() {
+        return categories;
+    }
+
+    public void setCategories(Set<String> categories) {
+        this.categories = categories;
+    }
+
+    public List<CommentImportRequest> getComments() {
+        return comments;
+    }
+
+    public void setComments(List<CommentImportRequest> comments) {
+        this.comments = comments;
+    }
+}
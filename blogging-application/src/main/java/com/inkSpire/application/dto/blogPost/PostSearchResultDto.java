@@ -0,0 +1,107 @@
+package com.inkSpire.application.dto.blogPost;
+
+/**
+ * Data Transfer Object (DTO) representing one full-text search hit.
+ *
+ * @author Maran.C
+ */
+public class PostSearchResultDto {
+
+    private Long blogPostId; // Unique identifier for the blog post.
+    private String title; // Title of the blog post, with matched terms highlighted.
+    private String snippet; // Passages of the content around the matched terms, with the terms highlighted.
+    private float score; // BM25 relevance score of the hit.
+
+    /**
+     * Default constructor for PostSearchResultDto.
+     */
+    public PostSearchResultDto() {
+    }
+
+    /**
+     * Constructor for PostSearchResultDto with all fields.
+     *
+     * @param blogPostId The unique identifier of the blog post.
+     * @param title      The highlighted title.
+     * @param snippet    The highlighted content passages, or null if only the title matched.
+     * @param score      The relevance score.
+     */
+    public PostSearchResultDto(Long blogPostId, String title, String snippet, float score) {
+        this.blogPostId = blogPostId;
+        this.title = title;
+        this.snippet = snippet;
+        this.score = score;
+    }
+
+    /**
+     * Get the unique identifier of the blog post.
+     *
+     * @return The unique identifier of the blog post.
+     */
+    public Long getBlogPostId() {
+        return blogPostId;
+    }
+
+    /**
+     * Set the unique identifier of the blog post.
+     *
+     * @param blogPostId The unique identifier to set.
+     */
+    public void setBlogPostId(Long blogPostId) {
+        this.blogPostId = blogPostId;
+    }
+
+    /**
+     * Get the highlighted title of the blog post.
+     *
+     * @return The highlighted title.
+     */
+    public String getTitle() {
+        return title;
+    }
+
+    /**
+     * Set the highlighted title of the blog post.
+     *
+     * @param title The highlighted title to set.
+     */
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    /**
+     * Get the highlighted content passages.
+     *
+     * @return The snippet, or null if only the title matched.
+     */
+    public String getSnippet() {
+        return snippet;
+    }
+
+    /**
+     * Set the highlighted content passages.
+     *
+     * @param snippet The snippet to set.
+     */
+    public void setSnippet(String snippet) {
+        this.snippet = snippet;
+    }
+
+    /**
+     * Get the relevance score of the hit.
+     *
+     * @return The BM25 score.
+     */
+    public float getScore() {
+        return score;
+    }
+
+    /**
+     * Set the relevance score of the hit.
+     *
+     * @param score The score to set.
+     */
+    public void setScore(float score) {
+        this.score = score;
+    }
+}
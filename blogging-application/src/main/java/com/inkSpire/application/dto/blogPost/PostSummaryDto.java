@@ -0,0 +1,202 @@
+package com.inkSpire.application.dto.blogPost;
+
+import java.util.Date;
+import java.util.Set;
+
+/**
+ * Data Transfer Object (DTO) representing a blog post in a listing.
+ * It carries only what a feed needs; the full content and comments are served by {@link PostDto}.
+ *
+ * @author Maran.C
+ */
+public class PostSummaryDto {
+
+    private Long blogPostId; // Unique identifier for the blog post.
+    private String title; // Title of the blog post.
+    private String excerpt; // Leading part of the content of the blog post.
+    private Date creationDate; // Date when the blog post was created.
+    private Date lastModifiedDate; // Date when the blog post was last modified.
+    private String authorName; // Display name of the author of the blog post.
+    private Set<String> categories; // Categories associated with the blog post.
+    private long commentCount; // Number of comments on the blog post.
+
+    /**
+     * Get the unique identifier of the blog post.
+     *
+     * @return The unique identifier of the blog post.
+     */
+    public Long getBlogPostId() {
+        return blogPostId;
+    }
+
+    /**
+     * Set the unique identifier of the blog post.
+     *
+     * @param blogPostId The unique identifier to set.
+     */
+    public void setBlogPostId(Long blogPostId) {
+        this.blogPostId = blogPostId;
+    }
+
+    /**
+     * Get the title of the blog post.
+     *
+     * @return The title of the blog post.
+     */
+    public String getTitle() {
+        return title;
+    }
+
+    /**
+     * Set the title of the blog post.
+     *
+     * @param title The title to set.
+     */
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    /**
+     * Get the excerpt of the blog post.
+     *
+     * @return The leading part of the content of the blog post.
+     */
+    public String getExcerpt() {
+        return excerpt;
+    }
+
+    /**
+     * Set the excerpt of the blog post.
+     *
+     * @param excerpt The excerpt to set.
+     */
+    public void setExcerpt(String excerpt) {
+        this.excerpt = excerpt;
+    }
+
+    /**
+     * Get the date when the blog post was created.
+     *
+     * @return The creation date of the blog post.
+     */
+    public Date getCreationDate() {
+        return creationDate;
+    }
+
+    /**
+     * Set the date when the blog post was created.
+     *
+     * @param creationDate The creation date to set.
+     */
+    public void setCreationDate(Date creationDate) {
+        this.creationDate = creationDate;
+    }
+
+    /**
+     * Get the date when the blog post was last modified.
+     *
+     * @return The last modification date of the blog post.
+     */
+    public Date getLastModifiedDate() {
+        return lastModifiedDate;
+    }
+
+    /**
+     * Set the date when the blog post was last modified.
+     *
+     * @param lastModifiedDate The last modification date to set.
+     */
+    public void setLastModifiedDate(Date lastModifiedDate) {
+        this.lastModifiedDate = lastModifiedDate;
+    }
+
+    /**
+     * Get the display name of the author of the blog post.
+     *
+     * @return The first and last name of the author.
+     */
+    public String getAuthorName() {
+        return authorName;
+    }
+
+    /**
+     * Set the display name of the author of the blog post.
+     *
+     * @param authorName The display name to set.
+     */
+    public void setAuthorName(String authorName) {
+        this.authorName = authorName;
+    }
+
+    /**
+     * Get the categories associated with the blog post.
+     *
+     * @return The categories associated with the blog post.
+     */
+    public Set<String> getCategories() {
+        return categories;
+    }
+
+    /**
+     * Set the categories associated with the blog post.
+     *
+     * @param categories The categories to set.
+     */
+    public void setCategories(Set<String> categories) {
+        this.categories = categories;
+    }
+
+    /**
+     * Get the number of comments on the blog post.
+     *
+     * @return The number of comments.
+     */
+    public long getCommentCount() {
+        return commentCount;
+    }
+
+    /**
+     * Set the number of comments on the blog post.
+     *
+     * @param commentCount The number of comments to set.
+     */
+    public void setCommentCount(long commentCount) {
+        this.commentCount = commentCount;
+    }
+
+    /**
+     * Default constructor for PostSummaryDto.
+     */
+    public PostSummaryDto() {
+    }
+
+    /**
+     * Constructor used by the JPQL constructor projections of {@code BlogPostRepository}.
+     * Categories are not selectable in the same row and are attached afterwards.
+     *
+     * @param blogPostId       Unique identifier of the blog post.
+     * @param title            Title of the blog post.
+     * @param excerpt          Leading part of the content of the blog post.
+     * @param creationDate     Date when the blog post was created.
+     * @param lastModifiedDate Date when the blog post was last modified.
+     * @param authorFirstname  First name of the author.
+     * @param authorLastname   Last name of the author.
+     * @param commentCount     Number of comments on the blog post.
+     */
+    public PostSummaryDto(Long blogPostId,
+                          String title,
+                          String excerpt,
+                          Date creationDate,
+                          Date lastModifiedDate,
+                          String authorFirstname,
+                          String authorLastname,
+                          Number commentCount) {
+        this.blogPostId = blogPostId;
+        this.title = title;
+        this.excerpt = excerpt;
+        this.creationDate = creationDate;
+        this.lastModifiedDate = lastModifiedDate;
+        this.authorName = authorFirstname == null ? null : authorFirstname + " " + authorLastname;
+        this.commentCount = commentCount == null ? 0 : commentCount.longValue();
+    }
+}
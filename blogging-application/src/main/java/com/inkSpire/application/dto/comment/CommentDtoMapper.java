@@ -1,5 +1,6 @@
 package com.inkSpire.application.dto.comment;
 
+import com.inkSpire.application.dto.user.UserDto;
 import com.inkSpire.application.dto.user.UserDtoMapper;
 import com.inkSpire.application.entity.Comment;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -19,12 +20,28 @@ public class CommentDtoMapper implements Function<Comment, CommentDto> {
 
     @Override
     public CommentDto apply(Comment comment) {
+        return apply(comment, userDtoMapper.apply(comment.getAuthor()));
+    }
+
+    public CommentDto apply(Comment comment, UserDto author) {
+        return apply(comment, author, comment.getContent());
+    }
+
+    /**
+     * Maps a comment whose lazily fetched content was already read by a batch query.
+     *
+     * @param comment The comment entity.
+     * @param author  The author of the comment.
+     * @param content The content of the comment.
+     * @return The comment DTO.
+     */
+    public CommentDto apply(Comment comment, UserDto author, String content) {
         return new CommentDto(
                 comment.getCommentId(),
-                comment.getContent(),
+                content,
                 comment.getCreationDate(),
                 comment.getLastModifiedDate(),
-                userDtoMapper.apply(comment.getAuthor())
+                author
         );
     }
 }
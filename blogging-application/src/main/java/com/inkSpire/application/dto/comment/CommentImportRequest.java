@@ -0,0 +1,39 @@
+package com.inkSpire.application.dto.comment;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.PastOrPresent;
+
+import java.util.Date;
+
+public class CommentImportRequest {
+
+    @NotBlank(message = "Content is required.")
+    private String content;
+
+    @PastOrPresent(message = "Creation date must be in the past or present.")
+    private Date creationDate;
+
+    public String getContent() {
+        return content;
+    }
+
+    public void setContent(String content) {
+        this.content = content;
+    }
+
+    public Date getCreationDate() {
+        return creationDate;
+    }
+
+    public void setCreationDate(Date creationDate) {
+        this.creationDate = creationDate;
+    }
+
+    public CommentImportRequest() {
+    }
+
+    public CommentImportRequest(String content, Date creationDate) {
+        this.content = content;
+        this.creationDate = creationDate;
+    }
+}
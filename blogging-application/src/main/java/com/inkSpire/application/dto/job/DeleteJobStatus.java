@@ -0,0 +1,114 @@
+package com.inkSpire.application.dto.job;
+
+import java.util.Date;
+
+/**
+ * Data Transfer Object (DTO) representing the progress of a bulk delete job.
+ *
+ * @author Maran.C
+ */
+public class DeleteJobStatus {
+
+    /**
+     * Lifecycle of a bulk delete job.
+     */
+    public enum State {
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    private String jobId; // Unique identifier of the job.
+    private String description; // What the job deletes.
+    private State state; // Current state of the job.
+    private long deletedPosts; // Posts deleted so far.
+    private long deletedComments; // Comments deleted so far.
+    private Date startedAt; // When the job started.
+    private Date finishedAt; // When the job finished, or null while running.
+    private String error; // Why the job failed, or null.
+
+    public DeleteJobStatus() {
+    }
+
+    public DeleteJobStatus(String jobId,
+                           String description,
+                           State state,
+                           long deletedPosts,
+                           long deletedComments,
+                           Date startedAt,
+                           Date finishedAt,
+                           String error) {
+        this.jobId = jobId;
+        this.description = description;
+        this.state = state;
+        this.deletedPosts = deletedPosts;
+        this.deletedComments = deletedComments;
+        this.startedAt = startedAt;
+        this.finishedAt = finishedAt;
+        this.error = error;
+    }
+
+    public String getJobId() {
+        return jobId;
+    }
+
+    public void setJobId(String jobId) {
+        this.jobId = jobId;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    public void setState(State state) {
+        this.state = state;
+    }
+
+    public long getDeletedPosts() {
+        return deletedPosts;
+    }
+
+    public void setDeletedPosts(long deletedPosts) {
+        this.deletedPosts = deletedPosts;
+    }
+
+    public long getDeletedComments() {
+        return deletedComments;
+    }
+
+    public void setDeletedComments(long deletedComments) {
+        this.deletedComments = deletedComments;
+    }
+
+    public Date getStartedAt() {
+        return startedAt;
+    }
+
+    public void setStartedAt(Date startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    public Date getFinishedAt() {
+        return finishedAt;
+    }
+
+    public void setFinishedAt(Date finishedAt) {
+        this.finishedAt = finishedAt;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+}
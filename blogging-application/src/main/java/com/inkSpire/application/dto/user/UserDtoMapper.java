@@ -1,6 +1,7 @@
 package com.inkSpire.application.dto.user;
 
 import com.inkSpire.application.entity.User;
+import com.inkSpire.application.security.UserPrincipal;
 import org.springframework.stereotype.Service;
 
 import java.util.function.Function;
@@ -15,4 +16,12 @@ public class UserDtoMapper implements Function<User, UserDto> {
                 user.getLastname()
         );
     }
+
+    public UserDto apply(UserPrincipal principal) {
+        return new UserDto(
+                principal.getEmail(),
+                principal.getFirstname(),
+                principal.getLastname()
+        );
+    }
 }
@@ -1,9 +1,12 @@
 package com.inkSpire.application.entity;
 
+import com.inkSpire.application.compression.CompressedContentConverter;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.PastOrPresent;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.io.Serializable;
 import java.util.Date;
@@ -16,13 +19,24 @@ import java.util.Set;
  * last modification date, author, categories, and comments.
  */
 @Entity
+@Table(indexes = {
+        // Backs the keyset pagination of the post listing.
+        @Index(name = "idx_blog_post_creation_date_id", columnList = "creationDate, blog_post_id")
+})
 public class BlogPost implements Serializable {
 
+    /**
+     * Maximum length of the stored excerpt.
+     */
+    public static final int EXCERPT_LENGTH = 200;
+
     /**
      * The unique identifier for the blog post.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "blog_post_seq")
+    // Pooled so that ids are known before INSERT, which lets Hibernate batch the inserts.
+    @SequenceGenerator(name = "blog_post_seq", sequenceName = "blog_post_seq", allocationSize = 100)
     @Column(name = "blog_post_id")
     private Long blogPostId;
 
@@ -33,12 +47,22 @@ public class BlogPost implements Serializable {
     private String title;
 
     /**
-     * The content of the blog post.
+     * The content of the blog post. It is fetched on first access, so loading a post to check its author,
+     * attach a comment or delete it never reads the content column. Long contents are stored compressed.
      */
     @NotBlank(message = "Content is required.")
-    @Column(columnDefinition = "TEXT")
+    @Basic(fetch = FetchType.LAZY)
+    @Convert(converter = CompressedContentConverter.class)
+    @Column(columnDefinition = "LONGBLOB", nullable = false)
     private String content;
 
+    /**
+     * The leading part of the content, kept in sync by {@link #setContent(String)}.
+     * Listings read it instead of the content column.
+     */
+    @Column(length = EXCERPT_LENGTH)
+    private String excerpt;
+
     /**
      * The date when the blog post was created.
      */
@@ -64,6 +88,8 @@ public class BlogPost implements Serializable {
      * The categories associated with the blog post.
      */
     @ElementCollection
+    @Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE)
+    @CollectionTable(name = "blog_post_categories", joinColumns = @JoinColumn(name = "blog_post_blog_post_id"))
     private Set<String> categories;
 
     /**
@@ -95,6 +121,11 @@ public class BlogPost implements Serializable {
 
     public void setContent(String content) {
         this.content = content;
+        this.excerpt = excerptOf(content);
+    }
+
+    public String getExcerpt() {
+        return excerpt;
     }
 
     public Date getCreationDate() {
@@ -165,11 +196,26 @@ public class BlogPost implements Serializable {
                     List<Comment> comments) {
         this.blogPostId = blogPostId;
         this.title = title;
-        this.content = content;
+        setContent(content);
         this.creationDate = creationDate;
         this.lastModifiedDate = lastModifiedDate;
         this.author = author;
         this.categories = categories;
         this.comments = comments;
     }
+
+    /**
+     * Computes the excerpt stored for a content.
+     *
+     * @param content The content of the blog post.
+     * @return The first {@link #EXCERPT_LENGTH} characters of the content, or all of it if shorter.
+     */
+    public static String excerptOf(String content) {
+        if (content == null || content.length() <= EXCERPT_LENGTH) {
+            return content;
+        }
+        // Never cut a surrogate pair in half.
+        int end = Character.isHighSurrogate(content.charAt(EXCERPT_LENGTH - 1)) ? EXCERPT_LENGTH - 1 : EXCERPT_LENGTH;
+        return content.substring(0, end);
+    }
 }
@@ -11,10 +11,15 @@ import java.util.Date;
 public class Comment {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "comment_seq")
+    @SequenceGenerator(name = "comment_seq", sequenceName = "comment_seq", allocationSize = 100)
     private Long commentId;
 
+    /**
+     * Fetched on first access; lists of comments read it for all comments of a post with one query instead.
+     */
     @NotBlank(message = "Content is required.")
+    @Basic(fetch = FetchType.LAZY)
     @Column(columnDefinition = "TEXT")
     private String content;
 
@@ -0,0 +1,61 @@
+package com.inkSpire.application.entity;
+
+import jakarta.persistence.*;
+
+import java.util.Date;
+
+/**
+ * A token revoked before its natural expiry, identified by its {@code jti} claim.
+ * The row is only needed until the token would have expired anyway, after which it is pruned.
+ *
+ * @author Maran.C
+ */
+@Entity
+@Table(indexes = {
+        // Backs the pruning of expired revocations and the reload of live ones.
+        @Index(name = "idx_revoked_token_expires_at", columnList = "expiresAt"),
+        // Backs the periodic sync of revocations made by other instances.
+        @Index(name = "idx_revoked_token_revoked_at", columnList = "revokedAt")
+})
+public class RevokedToken {
+
+    @Id
+    @Column(length = 36)
+    private String tokenId;
+
+    private Long userId;
+
+    @Temporal(TemporalType.TIMESTAMP)
+    @Column(nullable = false)
+    private Date expiresAt;
+
+    @Temporal(TemporalType.TIMESTAMP)
+    @Column(nullable = false)
+    private Date revokedAt;
+
+    public RevokedToken() {
+    }
+
+    public RevokedToken(String tokenId, Long userId, Date expiresAt, Date revokedAt) {
+        this.tokenId = tokenId;
+        this.userId = userId;
+        this.expiresAt = expiresAt;
+        this.revokedAt = revokedAt;
+    }
+
+    public String getTokenId() {
+        return tokenId;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public Date getExpiresAt() {
+        return expiresAt;
+    }
+
+    public Date getRevokedAt() {
+        return revokedAt;
+    }
+}
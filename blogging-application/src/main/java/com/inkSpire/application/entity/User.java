@@ -5,8 +5,10 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Past;
+import com.inkSpire.application.security.RoleRegistry;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import java.util.Collection;
@@ -16,6 +18,8 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE)
 public class User implements UserDetails {
 
     @Id
@@ -41,6 +45,7 @@ public class User implements UserDetails {
                     @JoinColumn(name = "ROLE_ID")
             }
     )
+    @Cache(usage = CacheConcurrencyStrategy.NONSTRICT_READ_WRITE)
     private Set<Role> roles;
 
     @OneToMany(mappedBy = "author", cascade = CascadeType.ALL)
@@ -64,11 +69,27 @@ public class User implements UserDetails {
     @NotBlank(message = "Lastname is required.")
     private String lastname;
 
+    /**
+     * When the account was deleted. A deleted account is disabled and hidden right away,
+     * and its rows are purged later in the background.
+     */
+    @Temporal(TemporalType.TIMESTAMP)
+    private Date deletedAt;
+
+    /**
+     * The authorities of the roles, built once per loaded user from the shared instances of the role registry.
+     */
+    @Transient
+    private transient Set<GrantedAuthority> authorities;
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return roles.stream().map(
-                role -> new SimpleGrantedAuthority("ROLE_" + role.getRoleName().toUpperCase())
-        ).collect(Collectors.toSet());
+        Set<GrantedAuthority> granted = authorities;
+        if (granted == null) {
+            granted = roles.stream().map(RoleRegistry::authorityOf).collect(Collectors.toUnmodifiableSet());
+            authorities = granted;
+        }
+        return granted;
     }
 
     @Override
@@ -98,7 +119,7 @@ public class User implements UserDetails {
 
     @Override
     public boolean isEnabled() {
-        return true;
+        return deletedAt == null;
     }
 
     public Long getUserId() {
@@ -131,6 +152,7 @@ public class User implements UserDetails {
 
     public void setRoles(Set<Role> roles) {
         this.roles = roles;
+        this.authorities = null;
     }
 
     public List<BlogPost> getBlogPosts() {
@@ -181,6 +203,14 @@ public class User implements UserDetails {
         this.lastname = lastname;
     }
 
+    public Date getDeletedAt() {
+        return deletedAt;
+    }
+
+    public void setDeletedAt(Date deletedAt) {
+        this.deletedAt = deletedAt;
+    }
+
     public User() {
     }
 
@@ -0,0 +1,13 @@
+package com.inkSpire.application.exception;
+
+import java.io.Serial;
+
+public class JobNotFoundException extends RuntimeException {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    public JobNotFoundException(String message) {
+        super(message);
+    }
+}
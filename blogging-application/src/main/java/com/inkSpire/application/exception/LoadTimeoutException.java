@@ -0,0 +1,13 @@
+package com.inkSpire.application.exception;
+
+import java.io.Serial;
+
+public class LoadTimeoutException extends RuntimeException {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    public LoadTimeoutException(String message) {
+        super(message);
+    }
+}
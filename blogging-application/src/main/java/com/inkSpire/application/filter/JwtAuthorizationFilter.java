@@ -1,11 +1,18 @@
 package com.inkSpire.application.filter;
 
+import com.inkSpire.application.entity.User;
+import com.inkSpire.application.security.AccountTombstones;
+import com.inkSpire.application.security.SessionStore;
+import com.inkSpire.application.security.TokenRevocationList;
+import com.inkSpire.application.security.UserPrincipal;
+import com.inkSpire.application.security.VerifiedToken;
 import com.inkSpire.application.service.JwtService;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -15,17 +22,42 @@ import org.springframework.security.web.authentication.WebAuthenticationDetailsS
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * Authorizes requests bearing a JWT or an opaque session token.
+ * <p>
+ * Tokens carrying identity claims are trusted as-is while they are younger than the freshness window, so the
+ * common case needs no database access. Older tokens, and tokens minted without claims, are re-checked against
+ * the user store, which also picks up role changes. Revoked tokens and tokens of deleted accounts are rejected
+ * on both paths.
+ * <p>
+ * Bearer tokens without dots are session tokens; they are resolved through the {@link SessionStore}, and rejected
+ * when the session is unknown, expired, logged out or belongs to a deleted account.
+ */
 @Configuration
 public class JwtAuthorizationFilter extends OncePerRequestFilter {
 
     private final UserDetailsService userDetailService;
     private final JwtService jwtService;
+    private final AccountTombstones accountTombstones;
+    private final TokenRevocationList tokenRevocationList;
+    private final SessionStore sessionStore;
+    private final long freshnessWindowMillis;
 
     @Autowired
-    public JwtAuthorizationFilter(UserDetailsService userDetailService, JwtService jwtService) {
+    public JwtAuthorizationFilter(UserDetailsService userDetailService,
+                                  JwtService jwtService,
+                                  AccountTombstones accountTombstones,
+                                  TokenRevocationList tokenRevocationList,
+                                  SessionStore sessionStore,
+                                  @Value("${inkspire.jwt.freshness-window-seconds:900}") long freshnessWindowSeconds) {
         this.userDetailService = userDetailService;
         this.jwtService = jwtService;
+        this.accountTombstones = accountTombstones;
+        this.tokenRevocationList = tokenRevocationList;
+        this.sessionStore = sessionStore;
+        this.freshnessWindowMillis = TimeUnit.SECONDS.toMillis(freshnessWindowSeconds);
     }
 
 
@@ -36,22 +68,58 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
             throws ServletException, IOException {
 
         String authHeader = request.getHeader("Authorization");
-        String token = null, username = null;
 
-        if (authHeader != null && authHeader.startsWith("Bearer ")) {
-            token = authHeader.substring(7);
-            username = jwtService.extractUsername(token);
-        }
-
-        if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = userDetailService.loadUserByUsername(username);
+        if (authHeader != null && authHeader.startsWith("Bearer ")
+                && SecurityContextHolder.getContext().getAuthentication() == null) {
+            String bearerToken = authHeader.substring(7);
+            UsernamePasswordAuthenticationToken usernamePasswordAuthenticationToken = SessionStore.isSessionToken(bearerToken)
+                    ? authenticateSession(bearerToken)
+                    // Parsed and signature-checked once; the result is reused for validation below.
+                    : authenticate(jwtService.verifyToken(bearerToken));
 
-            if (jwtService.validateToken(token, userDetails)) {
-                UsernamePasswordAuthenticationToken usernamePasswordAuthenticationToken = new UsernamePasswordAuthenticationToken(username, null, userDetails.getAuthorities());
+            if (usernamePasswordAuthenticationToken != null) {
                 usernamePasswordAuthenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                 SecurityContextHolder.getContext().setAuthentication(usernamePasswordAuthenticationToken);
             }
         }
         filterChain.doFilter(request, response);
     }
+
+    /**
+     * Builds the authentication of an opaque session token from its session, extending the session.
+     *
+     * @param sessionToken The raw session token.
+     * @return The authentication, or null if there is no live session for the token.
+     */
+    private UsernamePasswordAuthenticationToken authenticateSession(String sessionToken) {
+        UserPrincipal principal = sessionStore.resolve(sessionToken);
+        if (principal == null || accountTombstones.contains(principal.getUserId())) {
+            return null;
+        }
+        return new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+    }
+
+    /**
+     * Builds the authentication of a verified token, from its claims when it is fresh or from the user store otherwise.
+     * The principal is a {@link UserPrincipal} whenever the user id is known, so the service layer never needs to
+     * look the user up again.
+     *
+     * @param token The verified token.
+     * @return The authentication, or null if the token does not belong to a valid user.
+     */
+    private UsernamePasswordAuthenticationToken authenticate(VerifiedToken token) {
+        if (accountTombstones.contains(token.getUserId()) || tokenRevocationList.isRevoked(token)) {
+            return null;
+        }
+        if (token.hasIdentityClaims() && token.getAgeMillis(System.currentTimeMillis()) <= freshnessWindowMillis) {
+            UserPrincipal principal = UserPrincipal.from(token);
+            return new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+        }
+        UserDetails userDetails = userDetailService.loadUserByUsername(token.getSubject());
+        if (!userDetails.isEnabled() || !jwtService.validateToken(token, userDetails)) {
+            return null;
+        }
+        Object principal = userDetails instanceof User user ? UserPrincipal.from(user) : userDetails.getUsername();
+        return new UsernamePasswordAuthenticationToken(principal, null, userDetails.getAuthorities());
+    }
 }
@@ -0,0 +1,165 @@
+package com.inkSpire.application.filter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Applies the rate limit policies of {@link RateLimitProperties}.
+ * <p>
+ * The filter runs right after {@link JwtAuthorizationFilter}, so per-user policies see the authenticated principal.
+ * Every matching policy takes one token; the request is refused with 429 and Retry-After as soon as one bucket is
+ * empty. Allowed requests carry the RateLimit-Limit, RateLimit-Remaining and RateLimit-Reset headers of their most
+ * constrained bucket.
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final boolean enabled;
+    private final List<CompiledPolicy> policies;
+    private final RateLimiter rateLimiter;
+    private final MeterRegistry meterRegistry;
+
+    public RateLimitFilter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.enabled = properties.isEnabled();
+        this.policies = properties.getPolicies().stream().map(CompiledPolicy::new).toList();
+        Duration idleExpiry = properties.getPolicies().stream()
+                .map(RateLimitProperties.Policy::getRefillPeriod)
+                .max(Duration::compareTo)
+                .orElse(Duration.ofMinutes(1));
+        this.rateLimiter = new RateLimiter(properties.getMaximumKeys(), idleExpiry);
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || policies.isEmpty();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain)
+            throws ServletException, IOException {
+
+        PathContainer path = PathContainer.parsePath(request.getRequestURI().substring(request.getContextPath().length()));
+        long now = System.nanoTime();
+        RateLimiter.Decision reported = null;
+
+        for (CompiledPolicy policy : policies) {
+            if (!policy.matches(request.getMethod(), path)) {
+                continue;
+            }
+            String identity = policy.identityOf(request);
+            if (identity == null) {
+                continue;
+            }
+            RateLimiter.Decision decision = rateLimiter.tryAcquire(
+                    policy.name + ':' + identity, policy.capacity, policy.intervalNanos, now);
+            if (!decision.allowed()) {
+                policy.rejections(meterRegistry).increment();
+                reject(response, decision);
+                return;
+            }
+            if (reported == null || decision.remaining() < reported.remaining()) {
+                reported = decision;
+            }
+        }
+        if (reported != null) {
+            writeHeaders(response, reported);
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private static void reject(HttpServletResponse response, RateLimiter.Decision decision) throws IOException {
+        writeHeaders(response, decision);
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(toSeconds(decision.retryAfterNanos())));
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+        response.getWriter().write("Too many requests. Please retry later.");
+    }
+
+    private static void writeHeaders(HttpServletResponse response, RateLimiter.Decision decision) {
+        response.setHeader("RateLimit-Limit", String.valueOf(decision.limit()));
+        response.setHeader("RateLimit-Remaining", String.valueOf(decision.remaining()));
+        response.setHeader("RateLimit-Reset", String.valueOf(toSeconds(decision.resetNanos())));
+    }
+
+    private static long toSeconds(long nanos) {
+        // Rounded up, so a client waiting the advertised time always finds a token.
+        return (nanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1);
+    }
+
+    /**
+     * A policy with its path pattern parsed and its refill rate converted once.
+     */
+    private static final class CompiledPolicy {
+
+        private final String name;
+        private final String method;
+        private final PathPattern pattern;
+        private final RateLimitProperties.KeyType key;
+        private final int capacity;
+        private final long intervalNanos;
+        private volatile Counter rejections;
+
+        private CompiledPolicy(RateLimitProperties.Policy policy) {
+            if (policy.getCapacity() <= 0) {
+                throw new IllegalArgumentException("Rate limit policy " + policy.getName() + " needs a positive capacity.");
+            }
+            this.name = policy.getName();
+            this.method = policy.getMethod();
+            this.pattern = PathPatternParser.defaultInstance.parse(policy.getPath());
+            this.key = policy.getKey();
+            this.capacity = policy.getCapacity();
+            this.intervalNanos = Math.max(1, policy.getRefillPeriod().toNanos() / policy.getCapacity());
+        }
+
+        private boolean matches(String requestMethod, PathContainer path) {
+            return (method == null || method.equalsIgnoreCase(requestMethod)) && pattern.matches(path);
+        }
+
+        private String identityOf(HttpServletRequest request) {
+            if (key == RateLimitProperties.KeyType.IP) {
+                return request.getRemoteAddr();
+            }
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            if (authentication == null || !authentication.isAuthenticated()
+                    || authentication instanceof AnonymousAuthenticationToken) {
+                return null;
+            }
+            return authentication.getName();
+        }
+
+        private Counter rejections(MeterRegistry meterRegistry) {
+            Counter counter = rejections;
+            if (counter == null) {
+                counter = Counter.builder("rate-limit.rejected")
+                        .description("Requests refused by a rate limit policy")
+                        .tag("policy", name)
+                        .register(meterRegistry);
+                rejections = counter;
+            }
+            return counter;
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.inkSpire.application.filter;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Rate limit policies, bound from {@code inkspire.rate-limit}.
+ * <p>
+ * Each policy is a token bucket of {@code capacity} requests refilled evenly over {@code refill-period}, kept per
+ * client IP or per authenticated user for the requests matching its method and path pattern.
+ *
+ * @author Maran.C
+ */
+@ConfigurationProperties(prefix = "inkspire.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+    private long maximumKeys = 100_000;
+    private List<Policy> policies = new ArrayList<>();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public long getMaximumKeys() {
+        return maximumKeys;
+    }
+
+    public void setMaximumKeys(long maximumKeys) {
+        this.maximumKeys = maximumKeys;
+    }
+
+    public List<Policy> getPolicies() {
+        return policies;
+    }
+
+    public void setPolicies(List<Policy> policies) {
+        this.policies = policies;
+    }
+
+    /**
+     * What a bucket is kept per.
+     */
+    public enum KeyType {
+        /**
+         * The remote address of the request.
+         */
+        IP,
+        /**
+         * The authenticated user; requests without an authenticated user are not limited by the policy.
+         */
+        USER
+    }
+
+    public static class Policy {
+
+        private String name;
+        private String method;
+        private String path;
+        private KeyType key = KeyType.IP;
+        private int capacity;
+        private Duration refillPeriod = Duration.ofMinutes(1);
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public String getMethod() {
+            return method;
+        }
+
+        public void setMethod(String method) {
+            this.method = method;
+        }
+
+        public String getPath() {
+            return path;
+        }
+
+        public void setPath(String path) {
+            this.path = path;
+        }
+
+        public KeyType getKey() {
+            return key;
+        }
+
+        public void setKey(KeyType key) {
+            this.key = key;
+        }
+
+        public int getCapacity() {
+            return capacity;
+        }
+
+        public void setCapacity(int capacity) {
+            this.capacity = capacity;
+        }
+
+        public Duration getRefillPeriod() {
+            return refillPeriod;
+        }
+
+        public void setRefillPeriod(Duration refillPeriod) {
+            this.refillPeriod = refillPeriod;
+        }
+    }
+}
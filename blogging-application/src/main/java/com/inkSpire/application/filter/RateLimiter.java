@@ -0,0 +1,70 @@
+package com.inkSpire.application.filter;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token buckets kept as a single atomic value each.
+ * <p>
+ * A bucket is stored as its theoretical arrival time (the generic cell rate algorithm): the instant at which the
+ * bucket would be full again. Taking a token is one compare-and-set that pushes that instant one emission interval
+ * further, so concurrent requests never lock and a bucket costs one {@link AtomicLong}.
+ * <p>
+ * Buckets live in a Caffeine map, which is striped internally and reads without locks. A bucket that has not been
+ * touched for the longest refill period is full by definition, so it expires and is recreated on demand.
+ *
+ * @author Maran.C
+ */
+public class RateLimiter {
+
+    private final Cache<String, AtomicLong> buckets;
+
+    public RateLimiter(long maximumKeys, Duration idleExpiry) {
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maximumKeys)
+                .expireAfterAccess(idleExpiry)
+                .build();
+    }
+
+    /**
+     * Takes one token from a bucket.
+     *
+     * @param key            The bucket key.
+     * @param capacity       The burst size of the bucket.
+     * @param intervalNanos  The time in which one token is refilled.
+     * @param nowNanos       The current {@link System#nanoTime()}.
+     * @return Whether the request is allowed, with the bucket state to report.
+     */
+    public Decision tryAcquire(String key, int capacity, long intervalNanos, long nowNanos) {
+        AtomicLong arrival = buckets.get(key, k -> new AtomicLong(nowNanos));
+        long burstNanos = capacity * intervalNanos;
+        while (true) {
+            long current = arrival.get();
+            long start = Math.max(current, nowNanos);
+            long next = start + intervalNanos;
+            long allowAt = next - burstNanos;
+            if (nowNanos < allowAt) {
+                return new Decision(false, capacity, 0, start - nowNanos, allowAt - nowNanos);
+            }
+            if (arrival.compareAndSet(current, next)) {
+                int remaining = (int) Math.min(capacity, (nowNanos - allowAt) / intervalNanos);
+                return new Decision(true, capacity, remaining, next - nowNanos, 0);
+            }
+        }
+    }
+
+    /**
+     * The outcome of taking a token.
+     *
+     * @param allowed         Whether a token was available.
+     * @param limit           The burst size of the bucket.
+     * @param remaining       The tokens left after this request.
+     * @param resetNanos      The time until the bucket is full again.
+     * @param retryAfterNanos The time until the next token, for refused requests.
+     */
+    public record Decision(boolean allowed, int limit, int remaining, long resetNanos, long retryAfterNanos) {
+    }
+}
@@ -0,0 +1,257 @@
+package com.inkSpire.application.index;
+
+import com.inkSpire.application.common.TransactionHooks;
+import com.inkSpire.application.repository.BlogPostRepository;
+import org.roaringbitmap.longlong.LongIterator;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory inverted index from category to a compressed bitmap of the ids of the posts in that category.
+ * <p>
+ * The index is rebuilt from the database when the application starts and then kept current by the post write
+ * paths. Bitmaps are copy-on-write: a writer builds the bitmaps it changes on private copies and publishes them,
+ * together with the set of all posts, as one immutable snapshot, so a query runs without locks and never sees a
+ * half-applied change. Post ids are stored as 64-bit values, covering the whole identity range.
+ *
+ * @author Maran.C
+ */
+@Component
+public class CategoryIndex {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CategoryIndex.class);
+
+    private final BlogPostRepository blogPostRepository;
+    private volatile Snapshot snapshot = new Snapshot(Map.of(), new Roaring64Bitmap());
+    private volatile Map<Long, Set<String>> categoriesByPost = new ConcurrentHashMap<>();
+
+    public CategoryIndex(BlogPostRepository blogPostRepository) {
+        this.blogPostRepository = blogPostRepository;
+    }
+
+    /**
+     * Rebuilds the whole index from the database.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        Map<String, Roaring64Bitmap> rebuiltPostsByCategory = new HashMap<>();
+        Map<Long, Set<String>> rebuiltCategoriesByPost = new HashMap<>();
+        Roaring64Bitmap rebuiltAllPosts = new Roaring64Bitmap();
+
+        for (Object[] row : blogPostRepository.findAllPostCategories()) {
+            Long postId = (Long) row[0];
+            String category = (String) row[1];
+            rebuiltAllPosts.addLong(postId);
+            Set<String> categories = rebuiltCategoriesByPost.computeIfAbsent(postId, id -> new HashSet<>());
+            if (category != null) {
+                categories.add(category);
+                rebuiltPostsByCategory.computeIfAbsent(category, name -> new Roaring64Bitmap()).addLong(postId);
+            }
+        }
+        rebuiltPostsByCategory.values().forEach(Roaring64Bitmap::runOptimize);
+        rebuiltAllPosts.runOptimize();
+
+        Map<Long, Set<String>> frozenCategoriesByPost = new ConcurrentHashMap<>();
+        rebuiltCategoriesByPost.forEach((postId, categories) -> frozenCategoriesByPost.put(postId, Set.copyOf(categories)));
+
+        this.categoriesByPost = frozenCategoriesByPost;
+        this.snapshot = new Snapshot(Map.copyOf(rebuiltPostsByCategory), rebuiltAllPosts);
+        LOGGER.info("Category index rebuilt with {} posts in {} categories.",
+                rebuiltAllPosts.getLongCardinality(), rebuiltPostsByCategory.size());
+    }
+
+    /**
+     * Records the categories of a created or updated post, once the current transaction, if any, commits.
+     *
+     * @param postId     The ID of the post.
+     * @param categories The categories of the post.
+     */
+    public void put(Long postId, Set<String> categories) {
+        putAll(Map.of(postId, categories == null ? Set.of() : categories));
+    }
+
+    /**
+     * Records the categories of many created or updated posts at once, once the current transaction, if any, commits.
+     * Each touched bitmap is copied once for the whole batch rather than once per post.
+     *
+     * @param categoriesByPostId The categories of each post.
+     */
+    public void putAll(Map<Long, Set<String>> categoriesByPostId) {
+        Map<Long, Set<String>> changes = new HashMap<>();
+        categoriesByPostId.forEach((postId, categories) ->
+                changes.put(postId, categories == null ? Set.of() : Set.copyOf(categories)));
+        TransactionHooks.afterCommit(() -> apply(changes));
+    }
+
+    /**
+     * Removes deleted posts from the index, once the current transaction, if any, commits.
+     *
+     * @param postIds The IDs of the deleted posts.
+     */
+    public void removeAll(Collection<Long> postIds) {
+        Map<Long, Set<String>> changes = new HashMap<>();
+        postIds.forEach(postId -> changes.put(postId, null));
+        TransactionHooks.afterCommit(() -> apply(changes));
+    }
+
+    /**
+     * Finds the posts matching a category query.
+     * A post matches when it is in at least one of {@code anyOf} (or {@code anyOf} is empty), in every category of
+     * {@code allOf} and in none of {@code noneOf}. Every bitmap is read from the same snapshot.
+     *
+     * @param anyOf  Categories combined with OR.
+     * @param allOf  Categories combined with AND.
+     * @param noneOf Categories to exclude.
+     * @return A new bitmap of the matching post ids, owned by the caller.
+     */
+    public Roaring64Bitmap query(Set<String> anyOf, Set<String> allOf, Set<String> noneOf) {
+        Snapshot current = snapshot;
+        Roaring64Bitmap result;
+        if (anyOf == null || anyOf.isEmpty()) {
+            result = current.allPosts().clone();
+        } else {
+            result = union(current.postsByCategory(), anyOf);
+        }
+        if (allOf != null) {
+            for (String category : allOf) {
+                Roaring64Bitmap posts = current.postsByCategory().get(category);
+                if (posts == null) {
+                    return new Roaring64Bitmap();
+                }
+                result.and(posts);
+            }
+        }
+        if (noneOf != null && !noneOf.isEmpty()) {
+            result.andNot(union(current.postsByCategory(), noneOf));
+        }
+        return result;
+    }
+
+    /**
+     * Pages through a result bitmap by descending post id, i.e. newest posts first.
+     *
+     * @param posts    The result of {@link #query}.
+     * @param beforeId Only ids strictly below this one are returned, or null to start from the newest post.
+     * @param limit    The maximum number of ids to return.
+     * @return The post ids of the page, in descending order.
+     */
+    public static List<Long> pageDescending(Roaring64Bitmap posts, Long beforeId, int limit) {
+        List<Long> page = new ArrayList<>((int) Math.min(limit, posts.getLongCardinality()));
+        if (posts.isEmpty() || (beforeId != null && beforeId <= 0)) {
+            return page;
+        }
+        LongIterator ids = beforeId == null ? posts.getReverseLongIterator() : posts.getReverseLongIteratorFrom(beforeId - 1);
+        while (ids.hasNext() && page.size() < limit) {
+            long id = ids.next();
+            // The positioned iterator may start on an id above the bound when the bound falls between containers.
+            if (beforeId == null || id < beforeId) {
+                page.add(id);
+            }
+        }
+        return page;
+    }
+
+    /**
+     * Counts the posts of every category.
+     *
+     * @return The number of posts per category, sorted by category name.
+     */
+    public SortedMap<String, Long> countByCategory() {
+        SortedMap<String, Long> counts = new TreeMap<>();
+        snapshot.postsByCategory().forEach((category, posts) -> counts.put(category, posts.getLongCardinality()));
+        return counts;
+    }
+
+    /**
+     * Gets the indexed categories of a post.
+     *
+     * @param postId The ID of the post.
+     * @return An unmodifiable set of categories, empty if the post is unknown.
+     */
+    public Set<String> categoriesOf(Long postId) {
+        return categoriesByPost.getOrDefault(postId, Set.of());
+    }
+
+    /**
+     * Replaces the categories of the given posts, removing the posts mapped to null.
+     * Changed bitmaps are built on private copies and published in a new snapshot only when complete.
+     */
+    private synchronized void apply(Map<Long, Set<String>> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        Snapshot current = snapshot;
+        Map<String, Roaring64Bitmap> changedCategories = new HashMap<>();
+        Roaring64Bitmap updatedAllPosts = current.allPosts().clone();
+
+        changes.forEach((postId, newCategories) -> {
+            Set<String> oldCategories = newCategories == null
+                    ? categoriesByPost.remove(postId)
+                    : categoriesByPost.put(postId, newCategories);
+            if (oldCategories == null) {
+                oldCategories = Set.of();
+            }
+            Set<String> categories = newCategories == null ? Set.of() : newCategories;
+
+            for (String category : oldCategories) {
+                if (!categories.contains(category)) {
+                    copyOf(current, changedCategories, category).removeLong(postId);
+                }
+            }
+            for (String category : categories) {
+                if (!oldCategories.contains(category)) {
+                    copyOf(current, changedCategories, category).addLong(postId);
+                }
+            }
+            if (newCategories == null) {
+                updatedAllPosts.removeLong(postId);
+            } else {
+                updatedAllPosts.addLong(postId);
+            }
+        });
+
+        Map<String, Roaring64Bitmap> updatedPostsByCategory = new HashMap<>(current.postsByCategory());
+        changedCategories.forEach((category, posts) -> {
+            if (posts.isEmpty()) {
+                updatedPostsByCategory.remove(category);
+            } else {
+                updatedPostsByCategory.put(category, posts);
+            }
+        });
+        snapshot = new Snapshot(Map.copyOf(updatedPostsByCategory), updatedAllPosts);
+    }
+
+    private static Roaring64Bitmap copyOf(Snapshot current, Map<String, Roaring64Bitmap> changedCategories, String category) {
+        return changedCategories.computeIfAbsent(category, name -> {
+            Roaring64Bitmap posts = current.postsByCategory().get(name);
+            return posts == null ? new Roaring64Bitmap() : posts.clone();
+        });
+    }
+
+    private static Roaring64Bitmap union(Map<String, Roaring64Bitmap> index, Set<String> categories) {
+        Roaring64Bitmap union = new Roaring64Bitmap();
+        for (String category : categories) {
+            Roaring64Bitmap posts = index.get(category);
+            if (posts != null) {
+                union.or(posts);
+            }
+        }
+        return union;
+    }
+
+    /**
+     * The published state of the index. Neither the map nor its bitmaps are mutated once published.
+     *
+     * @param postsByCategory The posts of every category.
+     * @param allPosts        Every indexed post, including those without a category.
+     */
+    private record Snapshot(Map<String, Roaring64Bitmap> postsByCategory, Roaring64Bitmap allPosts) {
+    }
+}
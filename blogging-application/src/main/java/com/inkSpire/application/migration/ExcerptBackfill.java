@@ -0,0 +1,80 @@
+package com.inkSpire.application.migration;
+
+import com.inkSpire.application.entity.BlogPost;
+import com.inkSpire.application.repository.BlogPostRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Fills the excerpt of the posts stored before listings read excerpts.
+ * <p>
+ * Starting at startup, every run fills one batch of {@code batch-size} posts in a transaction of its own, walking the
+ * posts in ID order, and runs are {@code pause-millis} apart. Only one batch runs at a time, so the shared scheduler is
+ * never held for long. New and updated posts get their excerpt from {@link BlogPost#setContent(String)}, so one pass
+ * is enough; the worker stops once it reaches the end of the table.
+ *
+ * @author Maran.C
+ */
+@Component
+public class ExcerptBackfill {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ExcerptBackfill.class);
+
+    private final BlogPostRepository blogPostRepository;
+    private final TransactionTemplate batchTransaction;
+    private final int batchSize;
+
+    private long lastFilledId;
+    private long filled;
+    private boolean finished;
+
+    public ExcerptBackfill(BlogPostRepository blogPostRepository,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${inkspire.excerpt-backfill.batch-size:500}") int batchSize) {
+        this.blogPostRepository = blogPostRepository;
+        this.batchTransaction = new TransactionTemplate(transactionManager);
+        this.batchTransaction.setPropagationBehavior(TransactionTemplate.PROPAGATION_REQUIRES_NEW);
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Fills the excerpts of the next batch of posts, until the end of the table is reached.
+     */
+    @Scheduled(fixedDelayString = "${inkspire.excerpt-backfill.pause-millis:100}")
+    public void fillNextBatch() {
+        if (finished) {
+            return;
+        }
+        try {
+            List<Long> postIds = batchTransaction.execute(status -> {
+                List<Long> ids = blogPostRepository.findIdsWithoutExcerptAfter(lastFilledId, PageRequest.of(0, batchSize));
+                if (!ids.isEmpty()) {
+                    for (Object[] row : blogPostRepository.findContentsByIds(ids)) {
+                        blogPostRepository.updateExcerpt((Long) row[0], BlogPost.excerptOf((String) row[1]));
+                    }
+                }
+                return ids;
+            });
+            if (postIds == null || postIds.isEmpty()) {
+                finished = true;
+                if (filled > 0) {
+                    LOGGER.info("Filled the excerpts of {} existing posts.", filled);
+                }
+                return;
+            }
+            filled += postIds.size();
+            lastFilledId = postIds.get(postIds.size() - 1);
+        } catch (RuntimeException exception) {
+            // Resumes after the last filled post on the next run.
+            LOGGER.error("Unable to fill post excerpts after post {}. cause: {}", lastFilledId, exception.getMessage());
+        }
+    }
+}
@@ -1,14 +1,32 @@
 package com.inkSpire.application.repository;
 
+import com.inkSpire.application.dto.blogPost.PostSummaryDto;
 import com.inkSpire.application.entity.BlogPost;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.Date;
 import java.util.List;
-import java.util.Set;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository for managing {@link BlogPost} entities.
+ * <p>
+ * Listing queries project straight into {@link PostSummaryDto} and never read the TEXT content column,
+ * the comments or the author entity; categories are attached with one extra query per page.
+ * Posts of deleted accounts waiting to be purged are left out of listings, exports and index rebuilds.
+ * Entity queries fetch the author in the same statement through an entity graph, and the remaining associations
+ * are loaded in batches as configured by {@code hibernate.default_batch_fetch_size}.
  *
  * @author Maran.C
  */
@@ -16,12 +34,12 @@ import java.util.Set;
 public interface BlogPostRepository extends JpaRepository<BlogPost, Long> {
 
     /**
-     * Retrieves a list of {@link BlogPost} objects that belong to any of the specified categories.
-     *
-     * @param categories A set of category names to filter by.
-     * @return A list of {@link BlogPost} objects matching the specified categories.
+     * Select clause shared by the summary projections.
      */
-    List<BlogPost> findByCategoriesIn(Set<String> categories);
+    String SUMMARY_SELECT = "select new com.inkSpire.application.dto.blogPost.PostSummaryDto(" +
+            "p.blogPostId, p.title, p.excerpt, p.creationDate, p.lastModifiedDate, " +
+            "a.firstname, a.lastname, size(p.comments)) " +
+            "from BlogPost p left join p.author a ";
 
     /**
      * Retrieves a list of {@link BlogPost} objects written by an author with the specified email.
@@ -29,12 +47,242 @@ public interface BlogPostRepository extends JpaRepository<BlogPost, Long> {
      * @param email The email of the author to filter by.
      * @return A list of {@link BlogPost} objects written by the specified author.
      */
+    @EntityGraph(attributePaths = "author")
     List<BlogPost> findByAuthor_Email(String email);
 
     /**
-     * Deletes all {@link BlogPost} objects written by an author with the specified email.
+     * Retrieves the first page of post summaries, newest first.
+     * Only the page size of the {@link Pageable} is used; the order is fixed to match the keyset index.
+     *
+     * @param pageable The page size.
+     * @return A list of {@link PostSummaryDto} objects without categories.
+     */
+    @Query(SUMMARY_SELECT + "where a.deletedAt is null order by p.creationDate desc, p.blogPostId desc")
+    List<PostSummaryDto> findSummaryFirstPage(Pageable pageable);
+
+    /**
+     * Retrieves the page of post summaries that follow the given keyset position, newest first.
+     * The predicate and order match the (creation_date, blog_post_id) index, so the cost does not grow with depth.
+     *
+     * @param creationDate The creation date of the last post of the previous page.
+     * @param blogPostId   The ID of the last post of the previous page.
+     * @param pageable     The page size.
+     * @return A list of {@link PostSummaryDto} objects without categories.
+     */
+    @Query(SUMMARY_SELECT +
+            "where a.deletedAt is null " +
+            "and (p.creationDate < :creationDate or (p.creationDate = :creationDate and p.blogPostId < :blogPostId)) " +
+            "order by p.creationDate desc, p.blogPostId desc")
+    List<PostSummaryDto> findSummaryPageAfter(@Param("creationDate") Date creationDate,
+                                              @Param("blogPostId") Long blogPostId,
+                                              Pageable pageable);
+
+    /**
+     * Retrieves summaries of the posts written by an author with the specified email, newest first.
+     *
+     * @param email The email of the author to filter by.
+     * @return A list of {@link PostSummaryDto} objects without categories.
+     */
+    @Query(SUMMARY_SELECT + "where a.email = :email order by p.creationDate desc, p.blogPostId desc")
+    List<PostSummaryDto> findSummariesByAuthorEmail(@Param("email") String email);
+
+    /**
+     * Retrieves summaries of the posts with the given IDs, highest ID first. Posts of deleted accounts that are not
+     * purged yet are left out.
+     *
+     * @param blogPostIds The IDs of the posts.
+     * @return A list of {@link PostSummaryDto} objects without categories.
+     */
+    @Query(SUMMARY_SELECT + "where p.blogPostId in :blogPostIds and a.deletedAt is null order by p.blogPostId desc")
+    List<PostSummaryDto> findSummariesByIds(@Param("blogPostIds") Collection<Long> blogPostIds);
+
+    /**
+     * Retrieves the categories of the given posts as (blogPostId, category) pairs.
+     *
+     * @param blogPostIds The IDs of the posts.
+     * @return A list of two-element rows holding the post ID and one of its categories.
+     */
+    @Query("select p.blogPostId, c from BlogPost p join p.categories c where p.blogPostId in :blogPostIds")
+    List<Object[]> findCategoriesByPostIds(@Param("blogPostIds") Collection<Long> blogPostIds);
+
+    /**
+     * Retrieves every post ID with each of its categories, used to rebuild the category index.
+     * Posts without categories appear once with a null category.
+     *
+     * @return A list of two-element rows holding the post ID and one of its categories.
+     */
+    @Query("select p.blogPostId, c from BlogPost p left join p.categories c where p.author.deletedAt is null")
+    List<Object[]> findAllPostCategories();
+
+    /**
+     * Streams every post with its author and content in ID order, for the NDJSON export.
+     * The rows come from a forward-only cursor read a fetch-size batch at a time, and the entities are read-only,
+     * so no dirty-checking snapshots are kept. The stream must be consumed inside a transaction and closed.
+     *
+     * @return A stream of two-element rows holding the {@link BlogPost} and its content.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select p, p.content from BlogPost p left join fetch p.author a where a.deletedAt is null order by p.blogPostId")
+    Stream<Object[]> streamAllForExport();
+
+    /**
+     * Retrieves the lazily fetched content of a post and of its comments with one query, to render the full post.
+     *
+     * @param blogPostId The ID of the post.
+     * @return Rows holding the post content, then the ID and content of one comment; a post without comments yields
+     * one row whose comment ID is null.
+     */
+    @Query("select p.content, c.commentId, c.content from BlogPost p left join p.comments c where p.blogPostId = :blogPostId")
+    List<Object[]> findContentsByPostId(@Param("blogPostId") Long blogPostId);
+
+    /**
+     * Retrieves the searchable text of the posts that follow the given ID, in ID order, used to rebuild the search index.
+     *
+     * @param afterId  The ID of the last post of the previous batch, or 0 for the first batch.
+     * @param pageable The batch size.
+     * @return A list of three-element rows holding the post ID, title and content.
+     */
+    @Query("select p.blogPostId, p.title, p.content from BlogPost p " +
+            "where p.blogPostId > :afterId and p.author.deletedAt is null order by p.blogPostId")
+    List<Object[]> findSearchableAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * Retrieves the searchable text of the posts modified since the given time that follow the given ID, in ID order,
+     * used to catch the search index up with writes it may not have committed.
+     *
+     * @param since    The earliest modification time to include.
+     * @param afterId  The ID of the last post of the previous batch, or 0 for the first batch.
+     * @param pageable The batch size.
+     * @return A list of three-element rows holding the post ID, title and content.
+     */
+    @Query("select p.blogPostId, p.title, p.content from BlogPost p where p.lastModifiedDate >= :since " +
+            "and p.blogPostId > :afterId and p.author.deletedAt is null order by p.blogPostId")
+    List<Object[]> findSearchableModifiedSince(@Param("since") Date since,
+                                               @Param("afterId") Long afterId,
+                                               Pageable pageable);
+
+    /**
+     * Retrieves which of the given posts were written by a deleted account that is not purged yet, so readers of the
+     * search index can skip them.
+     *
+     * @param blogPostIds The IDs of the posts.
+     * @return The IDs of the posts whose author is deleted.
+     */
+    @Query("select p.blogPostId from BlogPost p where p.blogPostId in :blogPostIds and p.author.deletedAt is not null")
+    List<Long> findIdsWithDeletedAuthor(@Param("blogPostIds") Collection<Long> blogPostIds);
+
+    /**
+     * Retrieves the ID of the author of a post without loading the post.
+     *
+     * @param blogPostId The ID of the post.
+     * @return The ID of the author, or empty if the post does not exist.
+     */
+    @Query("select p.author.userId from BlogPost p where p.blogPostId = :blogPostId")
+    Optional<Long> findAuthorIdByPostId(@Param("blogPostId") Long blogPostId);
+
+    /**
+     * Counts the posts whose author account has not been deleted, i.e. the posts the search index should hold.
+     *
+     * @return The number of visible posts.
+     */
+    long countByAuthor_DeletedAtIsNull();
+
+    /**
+     * Counts the posts written by an author with the specified email.
+     *
+     * @param email The email of the author to filter by.
+     * @return The number of posts.
+     */
+    long countByAuthor_Email(String email);
+
+    /**
+     * Retrieves one chunk of the IDs of the posts written by an author with the specified email.
+     *
+     * @param email    The email of the author to filter by.
+     * @param pageable The chunk size.
+     * @return A list of post IDs.
+     */
+    @Query("select p.blogPostId from BlogPost p where p.author.email = :email order by p.blogPostId")
+    List<Long> findIdsByAuthorEmail(@Param("email") String email, Pageable pageable);
+
+    /**
+     * Deletes the category rows of the given posts with a single statement.
+     *
+     * @param blogPostIds The IDs of the posts.
+     * @return The number of deleted rows.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "delete from blog_post_categories where blog_post_blog_post_id in (:blogPostIds)", nativeQuery = true)
+    int deleteCategoriesByPostIds(@Param("blogPostIds") Collection<Long> blogPostIds);
+
+    /**
+     * Deletes the given posts with a single statement, without loading them.
+     * Their comments and category rows must be deleted first.
+     *
+     * @param blogPostIds The IDs of the posts.
+     * @return The number of deleted posts.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from BlogPost p where p.blogPostId in :blogPostIds")
+    int deleteByIds(@Param("blogPostIds") Collection<Long> blogPostIds);
+
+    /**
+     * Retrieves the IDs of the posts that follow the given ID and have no excerpt yet, in ID order.
+     *
+     * @param afterId  The ID of the last post of the previous batch, or 0 for the first batch.
+     * @param pageable The batch size.
+     * @return A list of post IDs.
+     */
+    @Query("select p.blogPostId from BlogPost p where p.blogPostId > :afterId and p.excerpt is null order by p.blogPostId")
+    List<Long> findIdsWithoutExcerptAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * Sets the excerpt of a post without loading it.
+     *
+     * @param blogPostId The ID of the post.
+     * @param excerpt    The excerpt.
+     * @return The number of updated posts.
+     */
+    @Modifying
+    @Query("update BlogPost p set p.excerpt = :excerpt where p.blogPostId = :blogPostId")
+    int updateExcerpt(@Param("blogPostId") Long blogPostId, @Param("excerpt") String excerpt);
+
+    /**
+     * Retrieves the IDs of the posts that follow the given ID and whose content is long enough to be compressed but
+     * is still stored as plain text, in ID order.
+     *
+     * @param afterId   The ID of the last post of the previous batch, or 0 for the first batch.
+     * @param minLength The compression threshold in bytes.
+     * @param limit     The batch size.
+     * @return A list of post IDs.
+     */
+    @Query(value = "select blog_post_id from blog_post where blog_post_id > :afterId " +
+            "and length(content) >= :minLength and substring(content, 1, 1) <> x'FF' " +
+            "order by blog_post_id limit :limit", nativeQuery = true)
+    List<Long> findUncompressedContentIds(@Param("afterId") Long afterId,
+                                          @Param("minLength") int minLength,
+                                          @Param("limit") int limit);
+
+    /**
+     * Retrieves the contents of the given posts.
+     *
+     * @param blogPostIds The IDs of the posts.
+     * @return A list of two-element rows holding the post ID and content.
+     */
+    @Query("select p.blogPostId, p.content from BlogPost p where p.blogPostId in :blogPostIds")
+    List<Object[]> findContentsByIds(@Param("blogPostIds") Collection<Long> blogPostIds);
+
+    /**
+     * Rewrites the content of a post without loading it, re-encoding it in the current storage format.
      *
-     * @param email The email of the author whose posts should be deleted.
+     * @param blogPostId The ID of the post.
+     * @param content    The content.
+     * @return The number of updated posts.
      */
-    void deleteAllByAuthor_Email(String email);
+    @Modifying
+    @Query("update BlogPost p set p.content = :content where p.blogPostId = :blogPostId")
+    int updateContent(@Param("blogPostId") Long blogPostId, @Param("content") String content);
 }
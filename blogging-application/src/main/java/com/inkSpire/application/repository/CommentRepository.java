@@ -1,11 +1,35 @@
 package com.inkSpire.application.repository;
 
 import com.inkSpire.application.entity.Comment;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 @Repository
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
-    void deleteAllByBlogPost_BlogPostId(Long id);
+    long countByBlogPost_BlogPostId(Long blogPostId);
+
+    long countByBlogPost_Author_Email(String email);
+
+    boolean existsByBlogPost_BlogPostIdIn(Collection<Long> blogPostIds);
+
+    @Query("select c.commentId from Comment c where c.blogPost.blogPostId in :blogPostIds order by c.commentId")
+    List<Long> findIdsByBlogPostIds(@Param("blogPostIds") Collection<Long> blogPostIds, Pageable pageable);
+
+    @Query("select c.commentId, c.blogPost.blogPostId from Comment c where c.author.userId = :userId order by c.commentId")
+    List<Object[]> findIdsAndPostIdsByAuthorId(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("select distinct c.blogPost.blogPostId from Comment c where c.author.userId = :userId")
+    List<Long> findPostIdsByAuthorId(@Param("userId") Long userId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Comment c where c.commentId in :commentIds")
+    int deleteByIds(@Param("commentIds") Collection<Long> commentIds);
 }
@@ -0,0 +1,25 @@
+package com.inkSpire.application.repository;
+
+import com.inkSpire.application.entity.RevokedToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Date;
+import java.util.List;
+
+@Repository
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, String> {
+
+    @Query("select t.tokenId, t.expiresAt from RevokedToken t where t.expiresAt > :now")
+    List<Object[]> findLive(@Param("now") Date now);
+
+    @Query("select t.tokenId, t.expiresAt from RevokedToken t where t.revokedAt >= :since and t.expiresAt > :now")
+    List<Object[]> findLiveRevokedSince(@Param("since") Date since, @Param("now") Date now);
+
+    @Modifying
+    @Query("delete from RevokedToken t where t.expiresAt <= :now")
+    int deleteExpired(@Param("now") Date now);
+}
@@ -1,15 +1,42 @@
 package com.inkSpire.application.repository;
 
 import com.inkSpire.application.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
 
     boolean existsByEmail(String username);
+
+    /**
+     * Finds a user by email through the query cache; the user itself then comes from the entity cache.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<User> findUserByEmail(String email);
 
+    @Modifying
+    @Query("update User u set u.password = :password where u.email = :email")
+    int updatePassword(@Param("email") String email, @Param("password") String password);
+
+    @Query("select u.userId from User u where u.deletedAt is not null order by u.deletedAt")
+    List<Long> findTombstonedIds();
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "delete from user_role where user_id = :userId", nativeQuery = true)
+    int deleteRolesOfUser(@Param("userId") Long userId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from User u where u.userId = :userId and u.deletedAt is not null")
+    int deleteTombstoned(@Param("userId") Long userId);
+
 }
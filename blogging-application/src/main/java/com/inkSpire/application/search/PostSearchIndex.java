@@ -0,0 +1,351 @@
+package com.inkSpire.application.search;
+
+import com.inkSpire.application.common.TransactionHooks;
+import com.inkSpire.application.dto.blogPost.PostSearchResultDto;
+import com.inkSpire.application.entity.BlogPost;
+import com.inkSpire.application.repository.BlogPostRepository;
+import jakarta.annotation.PreDestroy;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.en.EnglishAnalyzer;
+import org.apache.lucene.document.*;
+import org.apache.lucene.index.*;
+import org.apache.lucene.queryparser.classic.MultiFieldQueryParser;
+import org.apache.lucene.queryparser.classic.ParseException;
+import org.apache.lucene.search.*;
+import org.apache.lucene.search.similarities.BM25Similarity;
+import org.apache.lucene.search.similarities.Similarity;
+import org.apache.lucene.search.uhighlight.DefaultPassageFormatter;
+import org.apache.lucene.search.uhighlight.UnifiedHighlighter;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Embedded full-text index over the title and content of every blog post.
+ * <p>
+ * Text is tokenized and stemmed with the English analyzer and ranked with BM25; the query syntax is the classic
+ * Lucene one, so quoted phrases, boolean operators and prefixes work. Writes are visible to searches at once through
+ * a near-real-time reader and are committed to the local directory on a timer, so a write never waits for an fsync.
+ * Each commit records its time. At startup the index is rebuilt from the database when it is missing or its document
+ * count no longer matches the posts table; otherwise only the posts modified since the last commit are re-indexed.
+ * <p>
+ * Searches can only page through the first {@code max-result-window} hits, since collecting the top hits costs memory
+ * in proportion to the depth of the page.
+ *
+ * @author Maran.C
+ */
+@Component
+public class PostSearchIndex {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PostSearchIndex.class);
+
+    private static final String ID_FIELD = "id";
+    private static final String TITLE_FIELD = "title";
+    private static final String CONTENT_FIELD = "content";
+    private static final Map<String, Float> FIELD_BOOSTS = Map.of(TITLE_FIELD, 2.0f, CONTENT_FIELD, 1.0f);
+    private static final int REBUILD_BATCH_SIZE = 500;
+    private static final int MAX_HIGHLIGHTED_LENGTH = 100_000;
+    private static final String COMMITTED_AT = "committedAt";
+
+    /**
+     * How far before the last commit modified posts are re-indexed at startup. A post is stamped before its
+     * transaction commits and only indexed after, so an edit can be older than a commit that does not include it.
+     */
+    private static final long REINDEX_MARGIN_MILLIS = TimeUnit.MINUTES.toMillis(5);
+
+    /**
+     * Stored text with offsets in the postings, so the highlighter does not have to re-analyze the content.
+     */
+    private static final FieldType TEXT_WITH_OFFSETS;
+
+    static {
+        TEXT_WITH_OFFSETS = new FieldType(TextField.TYPE_STORED);
+        TEXT_WITH_OFFSETS.setIndexOptions(IndexOptions.DOCS_AND_FREQS_AND_POSITIONS_AND_OFFSETS);
+        TEXT_WITH_OFFSETS.freeze();
+    }
+
+    private final BlogPostRepository blogPostRepository;
+    private final Analyzer analyzer = new EnglishAnalyzer();
+    private final Similarity similarity = new BM25Similarity();
+    private final Directory directory;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+    private final int maxResultWindow;
+
+    public PostSearchIndex(BlogPostRepository blogPostRepository,
+                           @Value("${inkspire.search.index-dir:data/search-index}") String indexDir,
+                           @Value("${inkspire.search.max-result-window:10000}") int maxResultWindow) throws IOException {
+        this.blogPostRepository = blogPostRepository;
+        this.maxResultWindow = maxResultWindow;
+        Path path = Path.of(indexDir);
+        Files.createDirectories(path);
+        this.directory = FSDirectory.open(path);
+        this.writer = new IndexWriter(directory, new IndexWriterConfig(analyzer)
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND)
+                .setSimilarity(similarity));
+        this.searcherManager = new SearcherManager(writer, new SearcherFactory() {
+            @Override
+            public IndexSearcher newSearcher(IndexReader reader, IndexReader previousReader) {
+                IndexSearcher searcher = new IndexSearcher(reader);
+                searcher.setSimilarity(similarity);
+                return searcher;
+            }
+        });
+    }
+
+    /**
+     * Brings the persisted index up to date with the database: re-indexes every post when the document count does not
+     * match, and otherwise the posts modified since the last commit, whose changes may not have been committed.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfStale() {
+        long indexed = writer.getDocStats().numDocs;
+        long posts = blogPostRepository.countByAuthor_DeletedAtIsNull();
+        Long committedAt = lastCommittedAt();
+        if (indexed == posts && committedAt != null) {
+            reindexModifiedSince(new Date(committedAt - REINDEX_MARGIN_MILLIS));
+            return;
+        }
+        LOGGER.info("Search index holds {} documents for {} posts; rebuilding.", indexed, posts);
+        try {
+            writer.deleteAll();
+            long afterId = 0;
+            List<Object[]> batch;
+            do {
+                batch = blogPostRepository.findSearchableAfter(afterId, PageRequest.of(0, REBUILD_BATCH_SIZE));
+                for (Object[] row : batch) {
+                    afterId = (Long) row[0];
+                    writer.addDocument(toDocument(afterId, (String) row[1], (String) row[2]));
+                }
+            } while (batch.size() == REBUILD_BATCH_SIZE);
+            commitNow();
+            searcherManager.maybeRefresh();
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Unable to rebuild the search index.", exception);
+        }
+    }
+
+    /**
+     * Commits the writes made since the last commit, stamping the commit with its time.
+     */
+    @Scheduled(fixedDelayString = "${inkspire.search.commit-interval-millis:5000}")
+    public void commit() {
+        if (!writer.hasUncommittedChanges()) {
+            return;
+        }
+        try {
+            commitNow();
+        } catch (IOException exception) {
+            // Searches still see the writes; the next startup re-indexes the posts modified since the last commit.
+            LOGGER.error("Unable to commit the search index. cause: {}", exception.getMessage());
+        }
+    }
+
+    /**
+     * Adds or replaces the document of a post, once the current transaction, if any, commits.
+     *
+     * @param postId  The ID of the post.
+     * @param title   The title of the post.
+     * @param content The content of the post.
+     */
+    public void index(Long postId, String title, String content) {
+        Document document = toDocument(postId, title, content);
+        TransactionHooks.afterCommit(() -> write(() -> writer.updateDocument(idTerm(postId), document)));
+    }
+
+    /**
+     * Adds or replaces the documents of many posts with a single commit, once the current transaction, if any, commits.
+     *
+     * @param posts The posts to index.
+     */
+    public void indexAll(Collection<BlogPost> posts) {
+        if (posts.isEmpty()) {
+            return;
+        }
+        Map<Term, Document> documents = new LinkedHashMap<>();
+        for (BlogPost post : posts) {
+            documents.put(idTerm(post.getBlogPostId()), toDocument(post.getBlogPostId(), post.getTitle(), post.getContent()));
+        }
+        TransactionHooks.afterCommit(() -> write(() -> {
+            for (Map.Entry<Term, Document> document : documents.entrySet()) {
+                writer.updateDocument(document.getKey(), document.getValue());
+            }
+        }));
+    }
+
+    /**
+     * Removes the documents of deleted posts, once the current transaction, if any, commits.
+     *
+     * @param postIds The IDs of the deleted posts.
+     */
+    public void removeAll(Collection<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return;
+        }
+        Term[] terms = postIds.stream().map(PostSearchIndex::idTerm).toArray(Term[]::new);
+        TransactionHooks.afterCommit(() -> write(() -> writer.deleteDocuments(terms)));
+    }
+
+    /**
+     * Searches the title and content of all posts.
+     *
+     * @param queryText The query in classic Lucene syntax.
+     * @param offset    The number of top hits to skip.
+     * @param limit     The maximum number of hits to return.
+     * @return The hits, best first, with highlighted titles and content snippets.
+     * @throws IllegalArgumentException if the query cannot be parsed or the page lies beyond the result window.
+     */
+    public List<PostSearchResultDto> search(String queryText, long offset, int limit) {
+        if (offset < 0 || limit <= 0 || offset + limit > maxResultWindow) {
+            throw new IllegalArgumentException("Only the first " + maxResultWindow + " search results can be paged through.");
+        }
+        Query query;
+        try {
+            query = new MultiFieldQueryParser(new String[]{TITLE_FIELD, CONTENT_FIELD}, analyzer, FIELD_BOOSTS)
+                    .parse(queryText);
+        } catch (ParseException exception) {
+            throw new IllegalArgumentException("Invalid search query: " + exception.getLocalizedMessage());
+        }
+
+        IndexSearcher searcher = null;
+        try {
+            searcher = searcherManager.acquire();
+            TopDocs topDocs = searcher.search(query, (int) offset + limit);
+            ScoreDoc[] hits = topDocs.scoreDocs;
+            if (hits.length <= offset) {
+                return List.of();
+            }
+            TopDocs page = new TopDocs(topDocs.totalHits, Arrays.copyOfRange(hits, (int) offset, hits.length));
+
+            UnifiedHighlighter highlighter = UnifiedHighlighter.builder(searcher, analyzer)
+                    .withFormatter(new DefaultPassageFormatter("<mark>", "</mark>", " … ", true))
+                    .withMaxLength(MAX_HIGHLIGHTED_LENGTH)
+                    .build();
+            String[] titles = highlighter.highlight(TITLE_FIELD, query, page, 1);
+            String[] snippets = highlighter.highlight(CONTENT_FIELD, query, page, 3);
+
+            StoredFields storedFields = searcher.storedFields();
+            List<PostSearchResultDto> results = new ArrayList<>(page.scoreDocs.length);
+            for (int i = 0; i < page.scoreDocs.length; i++) {
+                ScoreDoc hit = page.scoreDocs[i];
+                Document document = storedFields.document(hit.doc, Set.of(ID_FIELD, TITLE_FIELD));
+                String title = titles[i] != null ? titles[i] : document.get(TITLE_FIELD);
+                results.add(new PostSearchResultDto(Long.valueOf(document.get(ID_FIELD)), title, snippets[i], hit.score));
+            }
+            return results;
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Unable to search posts.", exception);
+        } finally {
+            release(searcher);
+        }
+    }
+
+    /**
+     * Commits pending changes and closes the index.
+     */
+    @PreDestroy
+    public void close() throws IOException {
+        commitNow();
+        searcherManager.close();
+        writer.close();
+        directory.close();
+    }
+
+    private void write(IndexChange change) {
+        try {
+            change.apply();
+            searcherManager.maybeRefresh();
+        } catch (IOException exception) {
+            // The database write already succeeded; the next startup re-indexes the posts modified since the last commit.
+            LOGGER.error("Unable to update the search index. cause: {}", exception.getMessage());
+        }
+    }
+
+    private void reindexModifiedSince(Date since) {
+        try {
+            long reindexed = 0;
+            long afterId = 0;
+            List<Object[]> batch;
+            do {
+                batch = blogPostRepository.findSearchableModifiedSince(since, afterId, PageRequest.of(0, REBUILD_BATCH_SIZE));
+                for (Object[] row : batch) {
+                    afterId = (Long) row[0];
+                    writer.updateDocument(idTerm(afterId), toDocument(afterId, (String) row[1], (String) row[2]));
+                }
+                reindexed += batch.size();
+            } while (batch.size() == REBUILD_BATCH_SIZE);
+            if (reindexed > 0) {
+                commitNow();
+                searcherManager.maybeRefresh();
+            }
+            LOGGER.info("Search index is current with {} posts; re-indexed {} modified since {}.",
+                    writer.getDocStats().numDocs, reindexed, since);
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Unable to update the search index.", exception);
+        }
+    }
+
+    private void commitNow() throws IOException {
+        writer.setLiveCommitData(Map.of(COMMITTED_AT, String.valueOf(System.currentTimeMillis())).entrySet());
+        writer.commit();
+    }
+
+    /**
+     * Reads the time of the last commit.
+     *
+     * @return The commit time in epoch milliseconds, or null if the index was never committed with one.
+     */
+    private Long lastCommittedAt() {
+        Iterable<Map.Entry<String, String>> commitData = writer.getLiveCommitData();
+        if (commitData != null) {
+            for (Map.Entry<String, String> entry : commitData) {
+                if (COMMITTED_AT.equals(entry.getKey())) {
+                    return Long.valueOf(entry.getValue());
+                }
+            }
+        }
+        return null;
+    }
+
+    private void release(IndexSearcher searcher) {
+        if (searcher == null) {
+            return;
+        }
+        try {
+            searcherManager.release(searcher);
+        } catch (IOException exception) {
+            LOGGER.warn("Unable to release index searcher. cause: {}", exception.getMessage());
+        }
+    }
+
+    private static Document toDocument(Long postId, String title, String content) {
+        Document document = new Document();
+        document.add(new StringField(ID_FIELD, String.valueOf(postId), Field.Store.YES));
+        document.add(new Field(TITLE_FIELD, title == null ? "" : title, TEXT_WITH_OFFSETS));
+        document.add(new Field(CONTENT_FIELD, content == null ? "" : content, TEXT_WITH_OFFSETS));
+        return document;
+    }
+
+    private static Term idTerm(Long postId) {
+        return new Term(ID_FIELD, String.valueOf(postId));
+    }
+
+    @FunctionalInterface
+    private interface IndexChange {
+        void apply() throws IOException;
+    }
+}
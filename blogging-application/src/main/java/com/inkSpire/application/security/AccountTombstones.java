@@ -0,0 +1,85 @@
+package com.inkSpire.application.security;
+
+import com.inkSpire.application.common.TransactionHooks;
+import com.inkSpire.application.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-memory set of the user IDs of deleted accounts, checked by the authorization filter.
+ * <p>
+ * Fresh tokens are trusted without a database round trip, so a deleted account could keep using its tokens until they
+ * age out of the freshness window. A user ID stays here while the account waits to be purged, and for one freshness
+ * window after the purge, after which every remaining token of the account goes through the user store and fails.
+ *
+ * @author Maran.C
+ */
+@Component
+public class AccountTombstones {
+
+    private static final long PENDING = Long.MAX_VALUE;
+
+    private final UserRepository userRepository;
+    private final long freshnessWindowMillis;
+
+    /**
+     * User ID to the epoch millisecond at which the tombstone may be forgotten.
+     */
+    private final Map<Long, Long> tombstones = new ConcurrentHashMap<>();
+
+    public AccountTombstones(UserRepository userRepository,
+                             @Value("${inkspire.jwt.freshness-window-seconds:900}") long freshnessWindowSeconds) {
+        this.userRepository = userRepository;
+        this.freshnessWindowMillis = TimeUnit.SECONDS.toMillis(freshnessWindowSeconds);
+    }
+
+    /**
+     * Loads the accounts that were deleted but not yet purged before the last shutdown.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        userRepository.findTombstonedIds().forEach(userId -> tombstones.put(userId, PENDING));
+    }
+
+    /**
+     * Marks an account as deleted, once the current transaction, if any, commits.
+     *
+     * @param userId The ID of the user.
+     */
+    public void add(Long userId) {
+        TransactionHooks.afterCommit(() -> tombstones.put(userId, PENDING));
+    }
+
+    /**
+     * Records that the rows of an account are gone; the tombstone is kept until its last fresh token expires.
+     *
+     * @param userId The ID of the user.
+     */
+    public void purged(Long userId) {
+        tombstones.put(userId, System.currentTimeMillis() + freshnessWindowMillis);
+    }
+
+    /**
+     * Checks whether an account has been deleted.
+     *
+     * @param userId The ID of the user, may be null.
+     * @return True if the account is deleted.
+     */
+    public boolean contains(Long userId) {
+        return userId != null && tombstones.containsKey(userId);
+    }
+
+    /**
+     * Forgets the tombstones of purged accounts whose tokens can no longer be trusted without the user store.
+     */
+    public void prune() {
+        long now = System.currentTimeMillis();
+        tombstones.values().removeIf(forgetAt -> forgetAt <= now);
+    }
+}
@@ -0,0 +1,83 @@
+package com.inkSpire.application.security;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * BCrypt encoder whose cost factor is chosen per deployment.
+ * <p>
+ * New hashes use the target cost, while hashes of any other cost still verify, since BCrypt reads the cost from the
+ * stored hash. {@link #upgradeEncoding(String)} flags every hash whose cost differs from the target, in either
+ * direction, so the login flow re-hashes it with the current cost and the stored passwords converge without a
+ * migration.
+ * <p>
+ * {@link #calibrate(long, int, int)} picks the cost from the measured speed of the machine at startup.
+ *
+ * @author Maran.C
+ */
+public class CostAwareBCryptPasswordEncoder extends BCryptPasswordEncoder {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CostAwareBCryptPasswordEncoder.class);
+
+    private static final Pattern BCRYPT_PREFIX = Pattern.compile("\\A\\$2[abxy]?\\$(\\d\\d)\\$");
+
+    private final int strength;
+
+    public CostAwareBCryptPasswordEncoder(int strength) {
+        super(strength);
+        this.strength = strength;
+    }
+
+    /**
+     * Finds the highest cost whose hash time stays within the target on this machine.
+     * Each cost step doubles the work, so the cost is raised one step at a time while twice the last measurement
+     * still fits the target.
+     *
+     * @param targetMillis The target time of one hash in milliseconds.
+     * @param minStrength  The lowest acceptable cost, used even if it exceeds the target.
+     * @param maxStrength  The highest cost to consider.
+     * @return The calibrated cost.
+     */
+    public static int calibrate(long targetMillis, int minStrength, int maxStrength) {
+        // The first hash pays for class loading and JIT warm-up, so it is not measured.
+        new BCryptPasswordEncoder(minStrength).encode("calibration");
+        int strength = minStrength;
+        long elapsedMillis = measure(strength);
+        while (strength < maxStrength && elapsedMillis * 2 <= targetMillis) {
+            strength++;
+            elapsedMillis = measure(strength);
+        }
+        if (elapsedMillis > targetMillis && strength > minStrength) {
+            strength--;
+        }
+        LOGGER.info("Calibrated BCrypt cost {} for a target hash time of {} ms (last measured {} ms).",
+                strength, targetMillis, elapsedMillis);
+        return strength;
+    }
+
+    public int getStrength() {
+        return strength;
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.isEmpty()) {
+            return false;
+        }
+        Matcher matcher = BCRYPT_PREFIX.matcher(encodedPassword);
+        if (!matcher.find()) {
+            return super.upgradeEncoding(encodedPassword);
+        }
+        return Integer.parseInt(matcher.group(1)) != strength;
+    }
+
+    private static long measure(int strength) {
+        long start = System.nanoTime();
+        new BCryptPasswordEncoder(strength).encode("calibration");
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+}
@@ -0,0 +1,117 @@
+package com.inkSpire.application.security;
+
+import com.inkSpire.application.common.TransactionHooks;
+import com.inkSpire.application.entity.Role;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory copy of the role table.
+ * <p>
+ * The role set is tiny and almost never changes, so it is held as an immutable snapshot that readers use without
+ * locking or database access. Writers build a new snapshot and swap it in once their transaction commits.
+ * Role names are matched case-insensitively, like the unique index of the table.
+ * <p>
+ * Granted authorities are interned: every user, token and request holding a role shares one instance per authority.
+ *
+ * @author Maran.C
+ */
+@Component
+public class RoleRegistry {
+
+    private static final Map<String, GrantedAuthority> AUTHORITIES = new ConcurrentHashMap<>();
+
+    private volatile Map<String, RoleEntry> rolesByName = Map.of();
+
+    /**
+     * Gets the shared authority with the given name.
+     *
+     * @param authorityName The authority name, e.g. {@code ROLE_USER}.
+     * @return The interned authority.
+     */
+    public static GrantedAuthority authority(String authorityName) {
+        return AUTHORITIES.computeIfAbsent(authorityName, SimpleGrantedAuthority::new);
+    }
+
+    /**
+     * Gets the shared authority granted by a role.
+     *
+     * @param role The role.
+     * @return The interned {@code ROLE_<NAME>} authority.
+     */
+    public static GrantedAuthority authorityOf(Role role) {
+        return authority("ROLE_" + key(role.getRoleName()));
+    }
+
+    /**
+     * Replaces the whole registry with the given roles.
+     *
+     * @param roles Every persisted role.
+     */
+    public synchronized void replaceAll(Collection<Role> roles) {
+        Map<String, RoleEntry> snapshot = new HashMap<>();
+        roles.forEach(role -> snapshot.put(key(role.getRoleName()), RoleEntry.of(role)));
+        rolesByName = Map.copyOf(snapshot);
+    }
+
+    /**
+     * Adds or replaces a role, once the current transaction, if any, commits.
+     *
+     * @param previousName The name the role was registered under, or null for a new role.
+     * @param role         The persisted role.
+     */
+    public void put(String previousName, Role role) {
+        RoleEntry entry = RoleEntry.of(role);
+        TransactionHooks.afterCommit(() -> apply(previousName, entry));
+    }
+
+    /**
+     * Finds a role by name.
+     *
+     * @param roleName The name of the role, in any case.
+     * @return A detached copy of the role, or empty if there is none.
+     */
+    public Optional<Role> find(String roleName) {
+        return Optional.ofNullable(rolesByName.get(key(roleName))).map(RoleEntry::toRole);
+    }
+
+    /**
+     * Gets every role.
+     *
+     * @return Detached copies of the roles, ordered by ID.
+     */
+    public List<Role> all() {
+        return rolesByName.values().stream()
+                .sorted(Comparator.comparing(RoleEntry::roleId))
+                .map(RoleEntry::toRole)
+                .toList();
+    }
+
+    private synchronized void apply(String previousName, RoleEntry entry) {
+        Map<String, RoleEntry> snapshot = new HashMap<>(rolesByName);
+        if (previousName != null) {
+            snapshot.remove(key(previousName));
+        }
+        snapshot.put(key(entry.roleName()), entry);
+        rolesByName = Map.copyOf(snapshot);
+    }
+
+    private static String key(String roleName) {
+        return roleName.toUpperCase(Locale.ROOT);
+    }
+
+    private record RoleEntry(Long roleId, String roleName, String roleDescription) {
+
+        static RoleEntry of(Role role) {
+            return new RoleEntry(role.getRoleID(), role.getRoleName(), role.getRoleDescription());
+        }
+
+        Role toRole() {
+            return new Role(roleId, roleName, roleDescription);
+        }
+    }
+}
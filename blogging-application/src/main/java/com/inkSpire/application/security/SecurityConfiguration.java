@@ -1,18 +1,34 @@
 package com.inkSpire.application.security;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 @Configuration
 public class SecurityConfiguration {
 
-    @Bean
-    public PasswordEncoder passwordEncoder(){
-        return new BCryptPasswordEncoder();
+    /**
+     * BCrypt encoder isolated on its own bounded pool, so bursts of logins and registrations cannot occupy every
+     * request thread. The pool defaults to one thread per CPU.
+     * The cost is calibrated at startup to the target hash time unless a fixed strength is configured; passwords
+     * hashed with another cost are re-hashed on their next login.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public PasswordEncoder passwordEncoder(@Value("${inkspire.password-hashing.threads:0}") int threads,
+                                           @Value("${inkspire.password-hashing.queue-capacity:64}") int queueCapacity,
+                                           @Value("${inkspire.password-hashing.retry-after-seconds:1}") long retryAfterSeconds,
+                                           @Value("${inkspire.password-hashing.strength:0}") int strength,
+                                           @Value("${inkspire.password-hashing.target-millis:250}") long targetMillis,
+                                           @Value("${inkspire.password-hashing.min-strength:10}") int minStrength,
+                                           @Value("${inkspire.password-hashing.max-strength:16}") int maxStrength,
+                                           MeterRegistry meterRegistry) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        int cost = strength > 0 ? strength : CostAwareBCryptPasswordEncoder.calibrate(targetMillis, minStrength, maxStrength);
+        return new BoundedPasswordEncoder(new CostAwareBCryptPasswordEncoder(cost), poolSize, queueCapacity, retryAfterSeconds, meterRegistry);
     }
 
     @Bean
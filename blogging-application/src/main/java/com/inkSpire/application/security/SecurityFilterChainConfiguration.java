@@ -1,7 +1,11 @@
 package com.inkSpire.application.security;
 
 import com.inkSpire.application.filter.JwtAuthorizationFilter;
+import com.inkSpire.application.filter.RateLimitFilter;
+import com.inkSpire.application.filter.RateLimitProperties;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -15,13 +19,27 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 @EnableWebSecurity
 @EnableMethodSecurity
 @Configuration
+@EnableConfigurationProperties(RateLimitProperties.class)
 public class SecurityFilterChainConfiguration {
 
     private final JwtAuthorizationFilter filter;
+    private final RateLimitFilter rateLimitFilter;
 
     @Autowired
-    public SecurityFilterChainConfiguration(JwtAuthorizationFilter filter) {
+    public SecurityFilterChainConfiguration(JwtAuthorizationFilter filter, RateLimitFilter rateLimitFilter) {
         this.filter = filter;
+        this.rateLimitFilter = rateLimitFilter;
+    }
+
+    /**
+     * Keeps the rate limit filter out of the servlet filter chain; it only runs inside the security chain,
+     * after the JWT filter.
+     */
+    @Bean
+    public FilterRegistrationBean<RateLimitFilter> rateLimitFilterRegistration() {
+        FilterRegistrationBean<RateLimitFilter> registration = new FilterRegistrationBean<>(rateLimitFilter);
+        registration.setEnabled(false);
+        return registration;
     }
 
     @Bean
@@ -35,6 +53,7 @@ public class SecurityFilterChainConfiguration {
                 .sessionManagement().sessionCreationPolicy(SessionCreationPolicy.STATELESS)
                 .and()
                 .addFilterBefore(filter, UsernamePasswordAuthenticationFilter.class)
+                .addFilterAfter(rateLimitFilter, JwtAuthorizationFilter.class)
                 .exceptionHandling()
                 .and()
                 .build();
@@ -0,0 +1,299 @@
+package com.inkSpire.application.security;
+
+import com.inkSpire.application.entity.User;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-memory table of opaque session tokens, used when {@code inkspire.auth.mode} is {@code opaque}.
+ * <p>
+ * A session token is 32 random bytes in base64url. The table is split into a power-of-two number of shards, each a
+ * plain hash map guarded by its own lock, so concurrent requests only contend when their tokens land in the same
+ * shard. Resolving a token is one SHA-256 of the token and one map lookup, against a base64 decode, JSON parse and
+ * HMAC for a JWT. Sessions slide: every use extends the expiry by the idle timeout, up to an absolute lifetime.
+ * Logging out removes the session, which takes effect on the next request.
+ * <p>
+ * Only the SHA-256 digest of a token is kept, never the token itself. When a snapshot file is configured, the live
+ * sessions are written to it on shutdown and every sweep, and read back on startup, so sessions survive restarts.
+ *
+ * @author Maran.C
+ */
+@Component
+public class SessionStore {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SessionStore.class);
+
+    private static final int TOKEN_BYTES = 32;
+    private static final int SNAPSHOT_VERSION = 1;
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException("SHA-256 is not available.", exception);
+        }
+    });
+
+    private final SecureRandom random = new SecureRandom();
+    private final Shard[] shards;
+    private final int shardMask;
+    private final long idleTimeoutMillis;
+    private final long absoluteTimeoutMillis;
+    private final Path snapshotFile;
+
+    public SessionStore(@Value("${inkspire.auth.session.shards:64}") int shardCount,
+                        @Value("${inkspire.auth.session.idle-timeout-seconds:1800}") long idleTimeoutSeconds,
+                        @Value("${inkspire.auth.session.absolute-timeout-seconds:86400}") long absoluteTimeoutSeconds,
+                        @Value("${inkspire.auth.session.snapshot-file:}") String snapshotFile) {
+        int size = Integer.highestOneBit(Math.max(1, shardCount - 1) << 1);
+        this.shards = new Shard[size];
+        for (int i = 0; i < size; i++) {
+            shards[i] = new Shard();
+        }
+        this.shardMask = size - 1;
+        this.idleTimeoutMillis = TimeUnit.SECONDS.toMillis(idleTimeoutSeconds);
+        this.absoluteTimeoutMillis = TimeUnit.SECONDS.toMillis(absoluteTimeoutSeconds);
+        this.snapshotFile = snapshotFile.isBlank() ? null : Path.of(snapshotFile);
+    }
+
+    /**
+     * Checks whether a bearer token has the shape of a session token rather than a JWT.
+     *
+     * @param token The raw bearer token.
+     * @return True for opaque session tokens.
+     */
+    public static boolean isSessionToken(String token) {
+        return token.indexOf('.') < 0;
+    }
+
+    /**
+     * Opens a session for a user.
+     *
+     * @param user The authenticated user.
+     * @return The opaque token of the new session.
+     */
+    public String create(User user) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        random.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        long now = System.currentTimeMillis();
+        List<String> authorities = user.getAuthorities().stream().map(GrantedAuthority::getAuthority).toList();
+        Session session = new Session(user.getUserId(), user.getEmail(), user.getFirstname(), user.getLastname(),
+                authorities, now + absoluteTimeoutMillis, now + idleTimeoutMillis);
+        String key = digest(token);
+        shardOf(key).put(key, session);
+        return token;
+    }
+
+    /**
+     * Resolves a session token and extends its expiry.
+     *
+     * @param token The raw bearer token.
+     * @return The principal of the session, or null if the token is unknown or expired.
+     */
+    public UserPrincipal resolve(String token) {
+        String key = digest(token);
+        Shard shard = shardOf(key);
+        long now = System.currentTimeMillis();
+        synchronized (shard) {
+            Session session = shard.sessions.get(key);
+            if (session == null) {
+                return null;
+            }
+            if (session.expiresAt <= now) {
+                shard.sessions.remove(key);
+                return null;
+            }
+            session.expiresAt = Math.min(now + idleTimeoutMillis, session.absoluteExpiresAt);
+            return session.principal;
+        }
+    }
+
+    /**
+     * Ends a session.
+     *
+     * @param token The raw bearer token.
+     * @return True if the session existed.
+     */
+    public boolean remove(String token) {
+        String key = digest(token);
+        Shard shard = shardOf(key);
+        synchronized (shard) {
+            return shard.sessions.remove(key) != null;
+        }
+    }
+
+    /**
+     * Gets the number of sessions, including expired ones not swept yet.
+     *
+     * @return The number of sessions in the table.
+     */
+    public int size() {
+        int size = 0;
+        for (Shard shard : shards) {
+            synchronized (shard) {
+                size += shard.sessions.size();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Drops expired sessions one shard at a time, then refreshes the snapshot.
+     */
+    @Scheduled(fixedDelayString = "${inkspire.auth.session.sweep-interval-millis:60000}")
+    public void sweep() {
+        long now = System.currentTimeMillis();
+        for (Shard shard : shards) {
+            synchronized (shard) {
+                shard.sessions.values().removeIf(session -> session.expiresAt <= now);
+            }
+        }
+        writeSnapshot();
+    }
+
+    @PostConstruct
+    public void readSnapshot() {
+        if (snapshotFile == null || !Files.exists(snapshotFile)) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        int restored = 0;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(snapshotFile)))) {
+            if (in.readInt() != SNAPSHOT_VERSION) {
+                LOGGER.warn("Ignoring session snapshot {} written by another version.", snapshotFile);
+                return;
+            }
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                String key = in.readUTF();
+                Session session = Session.read(in);
+                if (session.expiresAt > now) {
+                    shardOf(key).put(key, session);
+                    restored++;
+                }
+            }
+            LOGGER.info("Restored {} sessions from {}.", restored, snapshotFile);
+        } catch (IOException exception) {
+            LOGGER.warn("Unable to read the session snapshot {}. cause: {}", snapshotFile, exception.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void writeSnapshot() {
+        if (snapshotFile == null) {
+            return;
+        }
+        Map<String, Session> copy = new HashMap<>();
+        for (Shard shard : shards) {
+            synchronized (shard) {
+                copy.putAll(shard.sessions);
+            }
+        }
+        try {
+            Path directory = snapshotFile.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            Path temporary = Files.createTempFile(directory, "sessions", ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+                out.writeInt(SNAPSHOT_VERSION);
+                out.writeInt(copy.size());
+                for (Map.Entry<String, Session> entry : copy.entrySet()) {
+                    out.writeUTF(entry.getKey());
+                    entry.getValue().write(out);
+                }
+            }
+            Files.move(temporary, snapshotFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException exception) {
+            LOGGER.warn("Unable to write the session snapshot {}. cause: {}", snapshotFile, exception.getMessage());
+        }
+    }
+
+    private Shard shardOf(String key) {
+        return shards[key.hashCode() & shardMask];
+    }
+
+    private static String digest(String token) {
+        byte[] hash = SHA_256.get().digest(token.getBytes(StandardCharsets.US_ASCII));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+    }
+
+    private static final class Shard {
+
+        private final Map<String, Session> sessions = new HashMap<>();
+
+        private synchronized void put(String key, Session session) {
+            sessions.put(key, session);
+        }
+    }
+
+    private static final class Session {
+
+        private final UserPrincipal principal;
+        private final List<String> authorityNames;
+        private final long absoluteExpiresAt;
+
+        /**
+         * Guarded by the lock of the owning shard.
+         */
+        private long expiresAt;
+
+        private Session(Long userId,
+                        String email,
+                        String firstname,
+                        String lastname,
+                        List<String> authorityNames,
+                        long absoluteExpiresAt,
+                        long expiresAt) {
+            this.principal = new UserPrincipal(userId, email, firstname, lastname,
+                    authorityNames.stream().map(RoleRegistry::authority).toList());
+            this.authorityNames = authorityNames;
+            this.absoluteExpiresAt = absoluteExpiresAt;
+            this.expiresAt = Math.min(expiresAt, absoluteExpiresAt);
+        }
+
+        private void write(DataOutputStream out) throws IOException {
+            out.writeLong(principal.getUserId());
+            out.writeUTF(principal.getEmail());
+            out.writeUTF(principal.getFirstname());
+            out.writeUTF(principal.getLastname());
+            out.writeInt(authorityNames.size());
+            for (String authority : authorityNames) {
+                out.writeUTF(authority);
+            }
+            out.writeLong(absoluteExpiresAt);
+            out.writeLong(expiresAt);
+        }
+
+        private static Session read(DataInputStream in) throws IOException {
+            long userId = in.readLong();
+            String email = in.readUTF();
+            String firstname = in.readUTF();
+            String lastname = in.readUTF();
+            int authorityCount = in.readInt();
+            List<String> authorities = new ArrayList<>(authorityCount);
+            for (int i = 0; i < authorityCount; i++) {
+                authorities.add(in.readUTF());
+            }
+            long absoluteExpiresAt = in.readLong();
+            long expiresAt = in.readLong();
+            return new Session(userId, email, firstname, lastname, List.copyOf(authorities), absoluteExpiresAt, expiresAt);
+        }
+    }
+}
@@ -0,0 +1,234 @@
+package com.inkSpire.application.security;
+
+import com.inkSpire.application.service.JwtService;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.*;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyStore;
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * The HMAC keys that sign and verify JWTs.
+ * <p>
+ * Keys are read from a PKCS12 keystore of secret key entries; the alias of an entry is its key ID, stamped as the
+ * {@code kid} header of every token it signs. New tokens are signed with the active key, which is the configured alias
+ * or, when none is configured, the most recently created entry. Every key in the store verifies tokens, so rotating
+ * means adding a new entry, waiting until every token signed with the old one has expired, then removing the old one.
+ * <p>
+ * The keys are decoded once per load into an immutable map, published through a single volatile field; verifying a
+ * token is one map lookup. The keystore file is watched and reloaded when it changes. A store that fails to load
+ * leaves the current keys in place. Tokens minted before key IDs were introduced have no {@code kid} and are verified
+ * with the built-in legacy key, as long as unversioned tokens are accepted.
+ *
+ * @author Maran.C
+ */
+@Component
+public class SigningKeyRing {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SigningKeyRing.class);
+
+    /**
+     * Key ID of the built-in key, used when no keystore is configured.
+     */
+    public static final String LEGACY_KEY_ID = "legacy";
+
+    private final Key legacyKey;
+    private final boolean acceptUnversionedTokens;
+    private final Path keystoreFile;
+    private final char[] keystorePassword;
+    private final String activeAlias;
+    private final List<Runnable> removalListeners = new CopyOnWriteArrayList<>();
+    private final WatchService watchService;
+
+    private volatile KeySet keySet;
+
+    @Autowired
+    public SigningKeyRing(@Value("${inkspire.jwt.keystore.path:}") String keystoreFile,
+                          @Value("${inkspire.jwt.keystore.password:}") String keystorePassword,
+                          @Value("${inkspire.jwt.keystore.active-alias:}") String activeAlias,
+                          @Value("${inkspire.jwt.keystore.accept-unversioned-tokens:true}") boolean acceptUnversionedTokens,
+                          @Value("${inkspire.jwt.legacy-secret:" + JwtService.SECRET + "}") String legacySecret)
+            throws IOException {
+        this.legacyKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(legacySecret));
+        this.acceptUnversionedTokens = acceptUnversionedTokens;
+        this.keystorePassword = keystorePassword.toCharArray();
+        // PKCS12 stores aliases in lower case.
+        this.activeAlias = activeAlias.isBlank() ? null : activeAlias.toLowerCase(Locale.ROOT);
+        if (keystoreFile.isBlank()) {
+            this.keystoreFile = null;
+            this.watchService = null;
+            this.keySet = new KeySet(new SigningKey(LEGACY_KEY_ID, legacyKey), Map.of(LEGACY_KEY_ID, legacyKey));
+            return;
+        }
+        this.keystoreFile = Path.of(keystoreFile).toAbsolutePath();
+        this.keySet = load();
+        this.watchService = startWatching();
+    }
+
+    /**
+     * Builds a key ring holding only the given secret, which signs and verifies every token. Meant for tools and
+     * benchmarks that run without a keystore.
+     *
+     * @param secret The base64 encoded HMAC secret.
+     * @return The key ring.
+     */
+    public static SigningKeyRing ofSecret(String secret) {
+        try {
+            return new SigningKeyRing("", "", "", true, secret);
+        } catch (IOException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    /**
+     * Gets the key new tokens are signed with.
+     *
+     * @return The active key with its ID.
+     */
+    public SigningKey activeKey() {
+        return keySet.active();
+    }
+
+    /**
+     * Finds the key that verifies tokens with the given {@code kid} header.
+     *
+     * @param keyId The key ID of the token, or null for tokens minted without one. Tokens signed with the legacy key
+     *              keep verifying after a keystore is configured, as long as unversioned tokens are accepted.
+     * @return The verification key, or null if the key is unknown or retired.
+     */
+    public Key verificationKey(String keyId) {
+        if (keyId != null) {
+            Key key = keySet.keys().get(keyId);
+            if (key != null || !LEGACY_KEY_ID.equals(keyId)) {
+                return key;
+            }
+        }
+        return acceptUnversionedTokens ? legacyKey : null;
+    }
+
+    /**
+     * Registers a callback run after a reload retired at least one key, e.g. to drop tokens verified with it.
+     *
+     * @param listener The callback.
+     */
+    public void onKeysRemoved(Runnable listener) {
+        removalListeners.add(listener);
+    }
+
+    /**
+     * Reloads the keystore and swaps the new keys in. The current keys stay in place if the store cannot be read.
+     */
+    public void reload() {
+        if (keystoreFile == null) {
+            return;
+        }
+        KeySet previous = keySet;
+        KeySet next;
+        try {
+            next = load();
+        } catch (IOException | RuntimeException exception) {
+            LOGGER.warn("Keeping the current signing keys; unable to load {}. cause: {}", keystoreFile, exception.getMessage());
+            return;
+        }
+        keySet = next;
+        LOGGER.info("Loaded {} signing keys from {}, signing with {}.", next.keys().size(), keystoreFile, next.active().keyId());
+        if (!next.keys().keySet().containsAll(previous.keys().keySet())) {
+            removalListeners.forEach(Runnable::run);
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        if (watchService != null) {
+            watchService.close();
+        }
+    }
+
+    private KeySet load() throws IOException {
+        KeyStore keyStore;
+        try (InputStream in = Files.newInputStream(keystoreFile)) {
+            keyStore = KeyStore.getInstance("PKCS12");
+            keyStore.load(in, keystorePassword);
+        } catch (GeneralSecurityException exception) {
+            throw new IllegalStateException("Unreadable keystore " + keystoreFile + ": " + exception.getMessage(), exception);
+        }
+        try {
+            Map<String, Key> keys = new HashMap<>();
+            String newestAlias = null;
+            Date newestDate = null;
+            for (String alias : Collections.list(keyStore.aliases())) {
+                if (!keyStore.entryInstanceOf(alias, KeyStore.SecretKeyEntry.class)) {
+                    continue;
+                }
+                Key key = keyStore.getKey(alias, keystorePassword);
+                // Re-wrapped as an HMAC-SHA key, which also rejects keys shorter than 256 bits.
+                keys.put(alias, Keys.hmacShaKeyFor(key.getEncoded()));
+                Date created = keyStore.getCreationDate(alias);
+                if (newestDate == null || (created != null && created.after(newestDate))) {
+                    newestAlias = alias;
+                    newestDate = created;
+                }
+            }
+            String active = activeAlias != null ? activeAlias : newestAlias;
+            if (active == null || !keys.containsKey(active)) {
+                throw new IllegalStateException("No signing key " + (active == null ? "" : active + " ") + "in " + keystoreFile);
+            }
+            return new KeySet(new SigningKey(active, keys.get(active)), Map.copyOf(keys));
+        } catch (GeneralSecurityException exception) {
+            throw new IllegalStateException("Unreadable key in " + keystoreFile + ": " + exception.getMessage(), exception);
+        }
+    }
+
+    private WatchService startWatching() throws IOException {
+        WatchService service = keystoreFile.getFileSystem().newWatchService();
+        Path directory = keystoreFile.getParent();
+        directory.register(service, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        Thread watcher = new Thread(() -> watch(service), "jwt-key-ring-watcher");
+        watcher.setDaemon(true);
+        watcher.start();
+        return service;
+    }
+
+    private void watch(WatchService service) {
+        Path fileName = keystoreFile.getFileName();
+        try {
+            while (true) {
+                WatchKey key = service.take();
+                boolean changed = key.pollEvents().stream()
+                        .anyMatch(event -> fileName.equals(event.context()));
+                key.reset();
+                if (changed) {
+                    reload();
+                }
+            }
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException exception) {
+            // Shutting down.
+        }
+    }
+
+    /**
+     * A signing key and the ID stamped on the tokens it signs.
+     *
+     * @param keyId The key ID.
+     * @param key   The HMAC key.
+     */
+    public record SigningKey(String keyId, Key key) {
+    }
+
+    private record KeySet(SigningKey active, Map<String, Key> keys) {
+    }
+}
@@ -0,0 +1,146 @@
+package com.inkSpire.application.security;
+
+import com.inkSpire.application.common.TransactionHooks;
+import com.inkSpire.application.entity.RevokedToken;
+import com.inkSpire.application.repository.RevokedTokenRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Deny list of tokens revoked before their expiry, consulted by the authorization filter on every request.
+ * <p>
+ * Revocations are persisted in the {@code revoked_token} table and mirrored in memory as an exact map of the live
+ * revocations, fronted by a Bloom filter. A token that was never revoked, the common case, is answered by the Bloom
+ * filter alone: one hash of its ID and a few bit probes, with no lock and no I/O. Only the rare positive is confirmed
+ * against the exact map.
+ * <p>
+ * Every sync interval, revocations made by other instances are pulled in, and revocations whose token has expired
+ * are deleted from the table and the map. Bloom filters cannot forget entries, so the filter is then rebuilt from the
+ * map and swapped in.
+ *
+ * @author Maran.C
+ */
+@Component
+public class TokenRevocationList {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TokenRevocationList.class);
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final long expectedRevocations;
+    private final double falsePositiveRate;
+    private final long syncOverlapMillis;
+
+    /**
+     * Token ID to the expiry of the token in epoch milliseconds.
+     */
+    private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+    private volatile BloomFilter filter;
+    private Date lastSync = new Date(0);
+
+    public TokenRevocationList(RevokedTokenRepository revokedTokenRepository,
+                               @Value("${inkspire.jwt.revocation.expected-revocations:100000}") long expectedRevocations,
+                               @Value("${inkspire.jwt.revocation.false-positive-rate:0.01}") double falsePositiveRate,
+                               @Value("${inkspire.jwt.revocation.sync-interval-millis:60000}") long syncIntervalMillis) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.expectedRevocations = expectedRevocations;
+        this.falsePositiveRate = falsePositiveRate;
+        // Rows revoked on another instance just before the previous sync may carry a slightly later timestamp.
+        this.syncOverlapMillis = syncIntervalMillis;
+        this.filter = new BloomFilter(expectedRevocations, falsePositiveRate);
+    }
+
+    /**
+     * Loads the live revocations from the table.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void load() {
+        Date now = new Date();
+        revoked.clear();
+        rememberAll(revokedTokenRepository.findLive(now));
+        lastSync = now;
+        rebuildFilter();
+        LOGGER.info("Loaded {} revoked tokens.", revoked.size());
+    }
+
+    /**
+     * Checks whether a token has been revoked.
+     *
+     * @param token The verified token.
+     * @return True if the token was revoked; tokens without an ID can never be revoked.
+     */
+    public boolean isRevoked(VerifiedToken token) {
+        String tokenId = token.getTokenId();
+        return tokenId != null && filter.mightContain(tokenId) && revoked.containsKey(tokenId);
+    }
+
+    /**
+     * Revokes a token until its expiry. The revocation is persisted in the current transaction and takes effect in
+     * memory once it commits.
+     *
+     * @param token The verified token to revoke.
+     */
+    public void revoke(VerifiedToken token) {
+        String tokenId = token.getTokenId();
+        if (tokenId == null) {
+            throw new IllegalArgumentException("This token has no ID and cannot be revoked; it expires on its own.");
+        }
+        long expiresAt = token.getExpirationMillis();
+        revokedTokenRepository.save(new RevokedToken(tokenId, token.getUserId(), new Date(expiresAt), new Date()));
+        TransactionHooks.afterCommit(() -> remember(tokenId, expiresAt));
+    }
+
+    /**
+     * Pulls in revocations made by other instances and prunes the revocations of expired tokens.
+     */
+    @Scheduled(fixedDelayString = "${inkspire.jwt.revocation.sync-interval-millis:60000}",
+            initialDelayString = "${inkspire.jwt.revocation.sync-interval-millis:60000}")
+    @Transactional
+    public synchronized void syncAndPrune() {
+        Date now = new Date();
+        rememberAll(revokedTokenRepository.findLiveRevokedSince(new Date(lastSync.getTime() - syncOverlapMillis), now));
+        lastSync = now;
+
+        int pruned = revokedTokenRepository.deleteExpired(now);
+        if (revoked.values().removeIf(expiresAt -> expiresAt <= now.getTime()) || pruned > 0) {
+            rebuildFilter();
+            LOGGER.debug("Pruned {} expired revocations; {} remain.", pruned, revoked.size());
+        }
+    }
+
+    private synchronized void remember(String tokenId, long expiresAt) {
+        revoked.put(tokenId, expiresAt);
+        filter.add(tokenId);
+    }
+
+    private void rememberAll(List<Object[]> rows) {
+        for (Object[] row : rows) {
+            remember((String) row[0], ((Date) row[1]).getTime());
+        }
+    }
+
+    private void rebuildFilter() {
+        BloomFilter rebuilt = new BloomFilter(Math.max(expectedRevocations, 2L * revoked.size()), falsePositiveRate);
+        revoked.keySet().forEach(rebuilt::add);
+        filter = rebuilt;
+    }
+
+    /**
+     * Gets the number of live revocations held in memory.
+     *
+     * @return The number of revoked tokens that have not expired yet.
+     */
+    public int size() {
+        return revoked.size();
+    }
+}
@@ -0,0 +1,103 @@
+package com.inkSpire.application.security;
+
+import com.inkSpire.application.entity.User;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.security.Principal;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * The authenticated user of the current request, as resolved by the authorization filter.
+ * It carries enough identity for the service layer to attach the user to new rows by reference,
+ * without looking the user up again.
+ *
+ * @author Maran.C
+ */
+public final class UserPrincipal implements Principal {
+
+    private final Long userId;
+    private final String email;
+    private final String firstname;
+    private final String lastname;
+    private final List<GrantedAuthority> authorities;
+
+    public UserPrincipal(Long userId,
+                         String email,
+                         String firstname,
+                         String lastname,
+                         Collection<? extends GrantedAuthority> authorities) {
+        this.userId = userId;
+        this.email = email;
+        this.firstname = firstname;
+        this.lastname = lastname;
+        this.authorities = List.copyOf(authorities);
+    }
+
+    /**
+     * Builds a principal from the identity claims of a verified token.
+     *
+     * @param token A token for which {@link VerifiedToken#hasIdentityClaims()} holds.
+     * @return The principal described by the token.
+     */
+    public static UserPrincipal from(VerifiedToken token) {
+        return new UserPrincipal(
+                token.getUserId(),
+                token.getSubject(),
+                token.getFirstname(),
+                token.getLastname(),
+                token.getAuthorities()
+        );
+    }
+
+    /**
+     * Builds a principal from a loaded user.
+     *
+     * @param user The user entity.
+     * @return The principal describing the user.
+     */
+    public static UserPrincipal from(User user) {
+        return new UserPrincipal(
+                user.getUserId(),
+                user.getEmail(),
+                user.getFirstname(),
+                user.getLastname(),
+                user.getAuthorities()
+        );
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public String getFirstname() {
+        return firstname;
+    }
+
+    public String getLastname() {
+        return lastname;
+    }
+
+    public List<GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    /**
+     * Gets the name of the principal, which is the email used as username throughout the application.
+     *
+     * @return The email of the user.
+     */
+    @Override
+    public String getName() {
+        return email;
+    }
+
+    @Override
+    public String toString() {
+        return email;
+    }
+}
@@ -0,0 +1,207 @@
+package com.inkSpire.application.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * Immutable view of a JWT whose signature has already been verified.
+ * A token is parsed exactly once; every later lookup of its subject, expiry or custom claims
+ * is answered from this object instead of re-running the signature check.
+ * <p>
+ * Tokens minted for a {@code User} also carry the user id, names and granted authorities, which are decoded here once
+ * so the authorization filter can build an authentication without a database round trip.
+ *
+ * @author Maran.C
+ */
+public final class VerifiedToken {
+
+    /**
+     * Claim holding the database id of the user the token was issued to.
+     */
+    public static final String USER_ID_CLAIM = "uid";
+
+    /**
+     * Claim holding the granted authority names of the user at the time the token was issued.
+     */
+    public static final String ROLES_CLAIM = "roles";
+
+    /**
+     * Claim holding the first name of the user, used to render authorship without loading the user.
+     */
+    public static final String FIRST_NAME_CLAIM = "fn";
+
+    /**
+     * Claim holding the last name of the user, used to render authorship without loading the user.
+     */
+    public static final String LAST_NAME_CLAIM = "ln";
+
+    private final String tokenId;
+    private final String subject;
+    private final Date issuedAt;
+    private final Date expiration;
+    private final Map<String, Object> claims;
+    private final Long userId;
+    private final String firstname;
+    private final String lastname;
+    private final List<GrantedAuthority> authorities;
+
+    /**
+     * Creates a verified token snapshot from the claims returned by the JWT parser.
+     *
+     * @param claims The claims of a token whose signature has been verified.
+     */
+    public VerifiedToken(Claims claims) {
+        this.tokenId = claims.getId();
+        this.subject = claims.getSubject();
+        this.issuedAt = copyOf(claims.getIssuedAt());
+        this.expiration = copyOf(claims.getExpiration());
+        this.claims = Collections.unmodifiableMap(new LinkedHashMap<>(claims));
+        this.userId = readUserId(claims.get(USER_ID_CLAIM));
+        this.firstname = claims.get(FIRST_NAME_CLAIM, String.class);
+        this.lastname = claims.get(LAST_NAME_CLAIM, String.class);
+        this.authorities = readAuthorities(claims.get(ROLES_CLAIM));
+    }
+
+    /**
+     * Gets the unique ID ({@code jti}) of the token, used to revoke it.
+     *
+     * @return The token ID, or null for tokens minted without one.
+     */
+    public String getTokenId() {
+        return tokenId;
+    }
+
+    /**
+     * Gets the subject (username) of the token.
+     *
+     * @return The subject of the token.
+     */
+    public String getSubject() {
+        return subject;
+    }
+
+    /**
+     * Gets the issue date of the token.
+     *
+     * @return A copy of the issue date, or null if the token has none.
+     */
+    public Date getIssuedAt() {
+        return copyOf(issuedAt);
+    }
+
+    /**
+     * Gets the expiration date of the token.
+     *
+     * @return A copy of the expiration date, or null if the token never expires.
+     */
+    public Date getExpiration() {
+        return copyOf(expiration);
+    }
+
+    /**
+     * Gets the user id carried by the token.
+     *
+     * @return The user id, or null for tokens minted without identity claims.
+     */
+    public Long getUserId() {
+        return userId;
+    }
+
+    public String getFirstname() {
+        return firstname;
+    }
+
+    public String getLastname() {
+        return lastname;
+    }
+
+    /**
+     * Gets the authorities carried by the token.
+     *
+     * @return An unmodifiable list of authorities, or null for tokens minted without role claims.
+     */
+    public List<GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    /**
+     * Checks whether the token carries the identity claims needed for stateless authorization.
+     *
+     * @return True if the user id, names and authorities are all present.
+     */
+    public boolean hasIdentityClaims() {
+        return userId != null && firstname != null && lastname != null && authorities != null;
+    }
+
+    /**
+     * Gets the age of the token at the given instant.
+     *
+     * @param nowMillis The current time in epoch milliseconds.
+     * @return The milliseconds elapsed since the token was issued, or {@link Long#MAX_VALUE} if it has no issue date.
+     */
+    public long getAgeMillis(long nowMillis) {
+        return issuedAt == null ? Long.MAX_VALUE : nowMillis - issuedAt.getTime();
+    }
+
+    /**
+     * Gets the expiration of the token in epoch milliseconds.
+     *
+     * @return The expiration time, or {@link Long#MAX_VALUE} if the token never expires.
+     */
+    public long getExpirationMillis() {
+        return expiration == null ? Long.MAX_VALUE : expiration.getTime();
+    }
+
+    /**
+     * Checks whether the token has expired at the given instant.
+     *
+     * @param nowMillis The current time in epoch milliseconds.
+     * @return True if the token is expired, false otherwise.
+     */
+    public boolean isExpired(long nowMillis) {
+        return getExpirationMillis() <= nowMillis;
+    }
+
+    /**
+     * Gets the raw claims of the token.
+     *
+     * @return An unmodifiable map of all claims.
+     */
+    public Map<String, Object> getClaims() {
+        return claims;
+    }
+
+    /**
+     * Resolves a claim using a resolver written against the JJWT {@link Claims} API.
+     *
+     * @param claimsResolver The function extracting the claim.
+     * @param <T>            The type of the claim.
+     * @return The resolved claim.
+     */
+    public <T> T resolve(Function<Claims, T> claimsResolver) {
+        return claimsResolver.apply(Jwts.claims(claims));
+    }
+
+    private static Long readUserId(Object claim) {
+        return claim instanceof Number number ? number.longValue() : null;
+    }
+
+    private static List<GrantedAuthority> readAuthorities(Object claim) {
+        if (!(claim instanceof Collection<?> roles)) {
+            return null;
+        }
+        List<GrantedAuthority> authorities = new ArrayList<>(roles.size());
+        for (Object role : roles) {
+            authorities.add(RoleRegistry.authority(String.valueOf(role)));
+        }
+        return List.copyOf(authorities);
+    }
+
+    private static Date copyOf(Date date) {
+        return date == null ? null : new Date(date.getTime());
+    }
+}
@@ -0,0 +1,25 @@
+package com.inkSpire.application.service;
+
+import com.inkSpire.application.entity.User;
+
+/**
+ * Service interface for deleting user accounts.
+ * An account is tombstoned within the request, which disables it and hides its content at once; its posts, comments
+ * and role rows are purged later in the background, in small batches.
+ *
+ * @author Maran.C
+ */
+public interface AccountDeletionService {
+
+    /**
+     * Mark an account as deleted and hide its posts and comments.
+     *
+     * @param user The managed user entity to delete.
+     */
+    void tombstone(User user);
+
+    /**
+     * Purge the rows of every tombstoned account.
+     */
+    void purgeTombstonedAccounts();
+}
@@ -0,0 +1,38 @@
+package com.inkSpire.application.service;
+
+import com.inkSpire.application.dto.authentication.AuthenticationResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UserDetails;
+
+/**
+ * Service interface for issuing and revoking bearer tokens.
+ * Depending on {@code inkspire.auth.mode}, tokens are self-contained JWTs or opaque session tokens resolved through
+ * the in-memory session store.
+ *
+ * @author Maran.C
+ */
+public interface AuthTokenService {
+
+    /**
+     * Issue a token to a user.
+     *
+     * @param userDetails The user the token is issued to.
+     * @return The bearer token.
+     */
+    String issueToken(UserDetails userDetails);
+
+    /**
+     * Issue a token for a successful authentication.
+     *
+     * @param authentication The authentication returned by the authentication manager.
+     * @return The response carrying the bearer token.
+     */
+    AuthenticationResponse issue(Authentication authentication);
+
+    /**
+     * Revoke a bearer token before its expiry, whichever mode issued it.
+     *
+     * @param token The raw bearer token presented by the client.
+     */
+    void revoke(String token);
+}
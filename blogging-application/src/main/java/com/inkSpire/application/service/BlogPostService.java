@@ -1,12 +1,17 @@
 package com.inkSpire.application.service;
 
+import com.inkSpire.application.common.CursorPage;
 import com.inkSpire.application.dto.blogPost.CategoryFilterRequest;
 import com.inkSpire.application.dto.blogPost.CreationRequest;
 import com.inkSpire.application.dto.blogPost.PostDto;
+import com.inkSpire.application.dto.blogPost.PostSearchResultDto;
+import com.inkSpire.application.dto.blogPost.PostSummaryDto;
 import com.inkSpire.application.dto.blogPost.UpdateRequest;
+import com.inkSpire.application.dto.job.DeleteJobStatus;
 import com.inkSpire.application.entity.BlogPost;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * This interface defines the service methods for managing blog posts.
@@ -43,27 +48,80 @@ public interface BlogPostService {
     BlogPost getBlogPostById(Long postID);
 
     /**
-     * Retrieve a list of all blog posts.
+     * Retrieve a single blog post with its full content and comments.
      *
-     * @return A list of PostDto objects representing all the blog posts.
+     * @param postId The ID of the blog post to retrieve.
+     * @return A PostDto representing the blog post.
      */
-    List<PostDto> getAllPosts();
+    PostDto getPost(Long postId);
+
+    /**
+     * Retrieve a lazy reference to an existing blog post, for use as a foreign key on new rows.
+     * Existence is checked with a primary-key probe; the post row itself is not loaded.
+     *
+     * @param postId The ID of the blog post.
+     * @return A reference proxy for the blog post.
+     */
+    BlogPost getBlogPostReference(Long postId);
+
+    /**
+     * Retrieve the ID of the author of a blog post, for ownership checks.
+     *
+     * @param postId The ID of the blog post.
+     * @return The ID of the author.
+     */
+    Long getAuthorId(Long postId);
+
+    /**
+     * Retrieve one page of all blog posts, newest first, using keyset pagination.
+     *
+     * @param cursor The cursor returned with the previous page, or null for the first page.
+     * @param size   The requested page size, or null for the default.
+     * @return A page of PostSummaryDto objects and the cursor of the next page.
+     */
+    CursorPage<PostSummaryDto> getAllPosts(String cursor, Integer size);
 
     /**
      * Retrieve a list of all blog posts for a user.
      *
-     * @return A list of PostDto objects representing the blog posts for the user.
+     * @return A list of PostSummaryDto objects representing the blog posts for the user.
      */
-    List<PostDto> getAllPostForUser();
+    List<PostSummaryDto> getAllPostForUser();
 
     /**
-     * Retrieve a list of blog posts based on category filters.
+     * Retrieve a list of blog posts based on category filters, highest post id first.
      *
      * @param request The request object containing category filter criteria.
-     * @return A list of PostDto objects representing the filtered blog posts.
+     * @return A list of PostSummaryDto objects representing the filtered blog posts.
+     * @see CategoryFilterRequest
+     */
+    List<PostSummaryDto> getAllPosts(CategoryFilterRequest request);
+
+    /**
+     * Retrieve one page of blog posts based on category filters, highest post id first.
+     *
+     * @param request The request object containing category filter criteria and the page position.
+     * @return A page of PostSummaryDto objects and the cursor of the next page.
      * @see CategoryFilterRequest
      */
-    List<PostDto> getAllPosts(CategoryFilterRequest request);
+    CursorPage<PostSummaryDto> getPostPage(CategoryFilterRequest request);
+
+    /**
+     * Search the title and content of all blog posts.
+     *
+     * @param query The full-text query; quoted phrases and boolean operators are supported.
+     * @param page  The zero-based page number, or null for the first page.
+     * @param size  The requested page size, or null for the default.
+     * @return A list of hits, best first, with highlighted snippets.
+     */
+    List<PostSearchResultDto> searchPosts(String query, Integer page, Integer size);
+
+    /**
+     * Count the blog posts of every category.
+     *
+     * @return The number of posts per category.
+     */
+    Map<String, Long> getCategoryCounts();
 
     /**
      * Delete a blog post by its ID.
@@ -74,9 +132,9 @@ public interface BlogPostService {
     String deleteBlogPost(Long postId);
 
     /**
-     * Delete all blog posts.
+     * Delete all blog posts of the logged-in user.
      *
-     * @return A message indicating the result of the deletion.
+     * @return The status of the delete, completed or still running in the background.
      */
-    String deleteAllBlogPosts();
+    DeleteJobStatus deleteAllBlogPosts();
 }
@@ -0,0 +1,37 @@
+package com.inkSpire.application.service;
+
+import com.inkSpire.application.dto.job.DeleteJobStatus;
+
+/**
+ * Service interface for deleting many posts or comments at once.
+ * Deletes run as a sequence of bounded set-based chunks, each in its own transaction. Deletes that fit in one chunk
+ * complete before the call returns; larger ones continue in the background as a job whose status can be polled.
+ *
+ * @author Maran.C
+ */
+public interface BulkDeleteService {
+
+    /**
+     * Delete every post of an author, with the comments and categories of those posts.
+     *
+     * @param email The email of the author.
+     * @return The status of the delete, completed or still running.
+     */
+    DeleteJobStatus deletePostsByAuthor(String email);
+
+    /**
+     * Delete every comment of a post.
+     *
+     * @param postId The ID of the post.
+     * @return The status of the delete, completed or still running.
+     */
+    DeleteJobStatus deleteCommentsOfPost(Long postId);
+
+    /**
+     * Get the status of a delete job started by the logged-in user.
+     *
+     * @param jobId The ID of the job.
+     * @return The current status of the job.
+     */
+    DeleteJobStatus getJob(String jobId);
+}
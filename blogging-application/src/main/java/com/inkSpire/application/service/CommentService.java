@@ -3,6 +3,7 @@ package com.inkSpire.application.service;
 import com.inkSpire.application.dto.comment.CommentCreationRequest;
 import com.inkSpire.application.dto.comment.CommentDto;
 import com.inkSpire.application.dto.comment.CommentUpdateRequest;
+import com.inkSpire.application.dto.job.DeleteJobStatus;
 
 import java.util.List;
 
@@ -16,5 +17,5 @@ public interface CommentService {
 
     String deleteComment(Long commentId);
 
-    String deleteAllComments(Long postId);
+    DeleteJobStatus deleteAllComments(Long postId);
 }
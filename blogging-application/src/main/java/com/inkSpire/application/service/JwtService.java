@@ -3,7 +3,9 @@ package com.inkSpire.application.service;
 
 import com.inkSpire.application.dto.authentication.AuthenticationRequest;
 import com.inkSpire.application.dto.authentication.AuthenticationResponse;
+import com.inkSpire.application.security.VerifiedToken;
 import io.jsonwebtoken.Claims;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import java.util.Date;
@@ -14,6 +16,15 @@ public interface JwtService {
 
     int VALIDITY_TIME = 3600 * 5;
 
+    /**
+     * Verifies the signature and expiry of a token and returns its claims.
+     * Implementations parse each distinct token at most once while it stays cached.
+     *
+     * @param token The compact JWT.
+     * @return The verified claims of the token.
+     */
+    VerifiedToken verifyToken(String token);
+
     String extractUsername(String token);
 
     Date extractExpiration(String token);
@@ -22,7 +33,20 @@ public interface JwtService {
 
     Boolean validateToken(String token, UserDetails userDetails);
 
+    boolean validateToken(VerifiedToken token, UserDetails userDetails);
+
     String generateToken(String userName);
 
+    /**
+     * Generates a token carrying the user id and granted authorities of the user as claims,
+     * so requests bearing it can be authorized without loading the user.
+     *
+     * @param userDetails The user the token is issued to.
+     * @return The compact JWT.
+     */
+    String generateToken(UserDetails userDetails);
+
     AuthenticationResponse generateAuthenticationResponse(AuthenticationRequest request);
-}
\ No newline at end of file
+
+    AuthenticationResponse generateAuthenticationResponse(Authentication authentication);
+}
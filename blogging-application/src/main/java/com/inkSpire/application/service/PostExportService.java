@@ -0,0 +1,27 @@
+package com.inkSpire.application.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Service interface for bulk export of blog posts.
+ *
+ * @author Maran.C
+ */
+public interface PostExportService {
+
+    /**
+     * Media type of the export: one JSON document per line.
+     */
+    String NDJSON = "application/x-ndjson";
+
+    /**
+     * Write every blog post to the output stream as newline-delimited JSON, in ascending ID order.
+     * Rows are streamed from the database, so memory use does not depend on the number of posts.
+     *
+     * @param outputStream The stream to write to; it is flushed but not closed.
+     * @return The number of exported posts.
+     * @throws IOException if writing to the stream fails.
+     */
+    long exportPosts(OutputStream outputStream) throws IOException;
+}
@@ -0,0 +1,25 @@
+package com.inkSpire.application.service;
+
+import com.inkSpire.application.dto.blogPost.ImportReport;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Service interface for bulk import of blog posts.
+ *
+ * @author Maran.C
+ */
+public interface PostImportService {
+
+    /**
+     * Import blog posts, with their categories and comments, from newline-delimited JSON.
+     * Every post and comment is authored by the logged-in user. Invalid lines are skipped and reported;
+     * valid lines are written in batches, each batch in its own transaction.
+     *
+     * @param inputStream The NDJSON input, one {@code PostImportRequest} per line.
+     * @return The report of imported and rejected lines.
+     * @throws IOException if reading the input fails.
+     */
+    ImportReport importPosts(InputStream inputStream) throws IOException;
+}
@@ -8,6 +8,7 @@ public interface RoleService {
     Role saveRole(Role role);
     Role updateRole(String roleName, Role role);
     Role getRoleByName(String roleName);
+    Role getRoleReference(String roleName);
     List<Role> getAllRoles();
     void init();
 }
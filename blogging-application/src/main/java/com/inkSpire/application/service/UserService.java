@@ -4,9 +4,10 @@ import com.inkSpire.application.dto.user.UserRegistrationRequest;
 import com.inkSpire.application.dto.user.UserRegistrationResponse;
 import com.inkSpire.application.dto.user.UserUpdateResponse;
 import com.inkSpire.application.entity.User;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 
-public interface UserService extends UserDetailsService {
+public interface UserService extends UserDetailsService, UserDetailsPasswordService {
 
     UserRegistrationResponse saveUser(UserRegistrationRequest userRegistrationRequest);
 
@@ -16,7 +17,23 @@ public interface UserService extends UserDetailsService {
 
     String deleteUser(String username);
 
+    /**
+     * Revokes a bearer token before its expiry.
+     *
+     * @param token The raw bearer token presented by the client, a JWT or a session token.
+     * @return A message indicating the result of the logout.
+     */
+    String logout(String token);
+
     User getUserByUsername(String username);
 
+    /**
+     * Gets a lazy reference to a user without querying the database, for use as a foreign key on new rows.
+     *
+     * @param userId The id of the user.
+     * @return A reference proxy for the user.
+     */
+    User getUserReference(Long userId);
+
 
 }
\ No newline at end of file
@@ -0,0 +1,195 @@
+package com.inkSpire.application.service.impl;
+
+import com.inkSpire.application.cache.PostCache;
+import com.inkSpire.application.entity.User;
+import com.inkSpire.application.index.CategoryIndex;
+import com.inkSpire.application.repository.BlogPostRepository;
+import com.inkSpire.application.repository.CommentRepository;
+import com.inkSpire.application.repository.UserRepository;
+import com.inkSpire.application.search.PostSearchIndex;
+import com.inkSpire.application.security.AccountTombstones;
+import com.inkSpire.application.service.AccountDeletionService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+
+/**
+ * Deletes accounts in two phases.
+ * <p>
+ * The request only stamps {@code deletedAt} on the user and records the tombstone, whatever the size of the account.
+ * From then on authentication rejects the account, and listings, searches, uncached single-post reads and comment
+ * lists skip its content.
+ * <p>
+ * A scheduled worker then purges each tombstoned account: its posts, each batch leaving the search and category
+ * indexes and the post cache before their comments, category rows and rows are deleted, then the comments it wrote
+ * elsewhere, dropping the cached copies of the posts they were on, then its role rows and the user row. Every batch
+ * deletes at most {@code batch-size} rows in a transaction of its own and is followed by a pause, so heavy accounts
+ * never hold long locks or fill the heap. The
+ * scheduler runs a pool of threads ({@code spring.task.scheduling.pool.size}), so a long purge does not hold up the
+ * other scheduled jobs.
+ *
+ * @author Maran.C
+ */
+@Service
+public class AccountDeletionServiceImpl implements AccountDeletionService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AccountDeletionServiceImpl.class);
+
+    private final UserRepository userRepository;
+    private final BlogPostRepository blogPostRepository;
+    private final CommentRepository commentRepository;
+    private final AccountTombstones accountTombstones;
+    private final PostCache postCache;
+    private final CategoryIndex categoryIndex;
+    private final PostSearchIndex postSearchIndex;
+    private final TransactionTemplate batchTransaction;
+    private final int batchSize;
+    private final long pauseMillis;
+
+    public AccountDeletionServiceImpl(UserRepository userRepository,
+                                      BlogPostRepository blogPostRepository,
+                                      CommentRepository commentRepository,
+                                      AccountTombstones accountTombstones,
+                                      PostCache postCache,
+                                      CategoryIndex categoryIndex,
+                                      PostSearchIndex postSearchIndex,
+                                      PlatformTransactionManager transactionManager,
+                                      @Value("${inkspire.account-deletion.batch-size:500}") int batchSize,
+                                      @Value("${inkspire.account-deletion.pause-millis:100}") long pauseMillis) {
+        this.userRepository = userRepository;
+        this.blogPostRepository = blogPostRepository;
+        this.commentRepository = commentRepository;
+        this.accountTombstones = accountTombstones;
+        this.postCache = postCache;
+        this.categoryIndex = categoryIndex;
+        this.postSearchIndex = postSearchIndex;
+        this.batchTransaction = new TransactionTemplate(transactionManager);
+        this.batchTransaction.setPropagationBehavior(TransactionTemplate.PROPAGATION_REQUIRES_NEW);
+        this.batchSize = batchSize;
+        this.pauseMillis = pauseMillis;
+    }
+
+    @Override
+    public void tombstone(User user) {
+        user.setDeletedAt(new Date());
+        accountTombstones.add(user.getUserId());
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${inkspire.account-deletion.purge-interval-millis:30000}",
+            initialDelayString = "${inkspire.account-deletion.purge-interval-millis:30000}")
+    public void purgeTombstonedAccounts() {
+        accountTombstones.prune();
+        for (Long userId : userRepository.findTombstonedIds()) {
+            try {
+                purge(userId);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException exception) {
+                // The account stays tombstoned and is retried on the next run.
+                LOGGER.error("Unable to purge deleted account {}. cause: {}", userId, exception.getMessage());
+            }
+        }
+    }
+
+    private void purge(Long userId) throws InterruptedException {
+        String email = userRepository.findById(userId).map(User::getEmail).orElse(null);
+        if (email == null) {
+            accountTombstones.purged(userId);
+            return;
+        }
+        long comments = 0;
+        long posts = 0;
+        long deleted;
+        while ((deleted = deletePostBatch(email)) > 0) {
+            posts += deleted;
+            Thread.sleep(pauseMillis);
+        }
+        while ((deleted = deleteCommentBatch(userId)) > 0) {
+            comments += deleted;
+            Thread.sleep(pauseMillis);
+        }
+        batchTransaction.executeWithoutResult(status -> {
+            userRepository.deleteRolesOfUser(userId);
+            userRepository.deleteTombstoned(userId);
+        });
+        accountTombstones.purged(userId);
+        LOGGER.info("Purged deleted account {}: {} posts, {} comments.", userId, posts, comments);
+    }
+
+    /**
+     * Deletes one batch of the comments written by a user and drops the cached copies of the posts they were on.
+     *
+     * @return The number of comments deleted.
+     */
+    private long deleteCommentBatch(Long userId) {
+        Integer deleted = batchTransaction.execute(status -> {
+            List<Object[]> rows = commentRepository.findIdsAndPostIdsByAuthorId(userId, PageRequest.of(0, batchSize));
+            if (rows.isEmpty()) {
+                return 0;
+            }
+            List<Long> commentIds = new ArrayList<>(rows.size());
+            Set<Long> postIds = new HashSet<>();
+            for (Object[] row : rows) {
+                commentIds.add((Long) row[0]);
+                postIds.add((Long) row[1]);
+            }
+            int comments = commentRepository.deleteByIds(commentIds);
+            postCache.invalidateAll(postIds);
+            return comments;
+        });
+        return deleted == null ? 0 : deleted;
+    }
+
+    /**
+     * Deletes one batch of the posts written by a user: drops them from the indexes and the post cache, deletes their
+     * comments batch by batch with a pause between batches, then their category rows and the posts.
+     *
+     * @return The number of posts deleted.
+     */
+    private long deletePostBatch(String email) throws InterruptedException {
+        List<Long> postIds = blogPostRepository.findIdsByAuthorEmail(email, PageRequest.of(0, batchSize));
+        if (postIds.isEmpty()) {
+            return 0;
+        }
+        categoryIndex.removeAll(postIds);
+        postSearchIndex.removeAll(postIds);
+        postCache.invalidateAll(postIds);
+        Integer deleted;
+        do {
+            while (deleteCommentsOfPosts(postIds) == batchSize) {
+                Thread.sleep(pauseMillis);
+            }
+            deleted = batchTransaction.execute(status -> {
+                // A comment written since the last comment batch keeps the posts; the next round deletes it.
+                if (commentRepository.existsByBlogPost_BlogPostIdIn(postIds)) {
+                    return null;
+                }
+                blogPostRepository.deleteCategoriesByPostIds(postIds);
+                return blogPostRepository.deleteByIds(postIds);
+            });
+        } while (deleted == null);
+        return deleted;
+    }
+
+    /**
+     * Deletes one batch of the comments on the given posts, from any author.
+     *
+     * @return The number of comments deleted.
+     */
+    private long deleteCommentsOfPosts(List<Long> postIds) {
+        Integer deleted = batchTransaction.execute(status -> {
+            List<Long> commentIds = commentRepository.findIdsByBlogPostIds(postIds, PageRequest.of(0, batchSize));
+            return commentIds.isEmpty() ? 0 : commentRepository.deleteByIds(commentIds);
+        });
+        return deleted == null ? 0 : deleted;
+    }
+}
@@ -0,0 +1,70 @@
+package com.inkSpire.application.service.impl;
+
+import com.inkSpire.application.dto.authentication.AuthenticationResponse;
+import com.inkSpire.application.entity.User;
+import com.inkSpire.application.security.SessionStore;
+import com.inkSpire.application.security.TokenRevocationList;
+import com.inkSpire.application.service.AuthTokenService;
+import com.inkSpire.application.service.JwtService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Service;
+
+import java.util.Locale;
+
+/**
+ * Issues JWTs or opaque session tokens, as configured by {@code inkspire.auth.mode}.
+ * <p>
+ * Both kinds are always accepted by the authorization filter, so switching the mode only changes what new logins get;
+ * tokens issued before the switch keep working until they expire or are revoked.
+ *
+ * @author Maran.C
+ */
+@Service
+public class AuthTokenServiceImpl implements AuthTokenService {
+
+    private final JwtService jwtService;
+    private final SessionStore sessionStore;
+    private final TokenRevocationList tokenRevocationList;
+    private final boolean opaque;
+
+    public AuthTokenServiceImpl(JwtService jwtService,
+                                SessionStore sessionStore,
+                                TokenRevocationList tokenRevocationList,
+                                @Value("${inkspire.auth.mode:jwt}") String mode) {
+        this.jwtService = jwtService;
+        this.sessionStore = sessionStore;
+        this.tokenRevocationList = tokenRevocationList;
+        this.opaque = switch (mode.toLowerCase(Locale.ROOT)) {
+            case "jwt" -> false;
+            case "opaque" -> true;
+            default -> throw new IllegalArgumentException("Unknown inkspire.auth.mode: " + mode);
+        };
+    }
+
+    @Override
+    public String issueToken(UserDetails userDetails) {
+        if (opaque && userDetails instanceof User user) {
+            return sessionStore.create(user);
+        }
+        return jwtService.generateToken(userDetails);
+    }
+
+    @Override
+    public AuthenticationResponse issue(Authentication authentication) {
+        if (authentication.getPrincipal() instanceof UserDetails userDetails) {
+            return new AuthenticationResponse(issueToken(userDetails));
+        }
+        return jwtService.generateAuthenticationResponse(authentication);
+    }
+
+    @Override
+    public void revoke(String token) {
+        if (SessionStore.isSessionToken(token)) {
+            sessionStore.remove(token);
+        } else {
+            tokenRevocationList.revoke(jwtService.verifyToken(token));
+        }
+    }
+}
@@ -1,27 +1,37 @@
 package com.inkSpire.application.service.impl;
 
+import com.inkSpire.application.cache.PostCache;
 import com.inkSpire.application.common.CommonServiceUtils;
+import com.inkSpire.application.common.CursorPage;
+import com.inkSpire.application.common.PostCursor;
 import com.inkSpire.application.dto.blogPost.*;
+import com.inkSpire.application.dto.job.DeleteJobStatus;
+import com.inkSpire.application.dto.user.UserDtoMapper;
 import com.inkSpire.application.entity.BlogPost;
 import com.inkSpire.application.entity.Comment;
 import com.inkSpire.application.entity.User;
 import com.inkSpire.application.exception.BlogPostNotFoundException;
 import com.inkSpire.application.exception.UnauthorizedException;
+import com.inkSpire.application.index.CategoryIndex;
 import com.inkSpire.application.repository.BlogPostRepository;
+import com.inkSpire.application.search.PostSearchIndex;
+import com.inkSpire.application.security.UserPrincipal;
 import com.inkSpire.application.service.BlogPostService;
-import jakarta.transaction.Transactional;
+import com.inkSpire.application.service.BulkDeleteService;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
+import org.hibernate.Hibernate;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
-import java.util.ArrayList;
-import java.util.Date;
-import java.util.List;
+import java.util.*;
 
 import static org.springframework.data.jpa.domain.AbstractPersistable_.id;
 
@@ -48,21 +58,42 @@ import static org.springframework.data.jpa.domain.AbstractPersistable_.id;
 public class BlogPostServiceImpl implements BlogPostService {
 
     private final PostDtoMapper dtoMapper;
+    private final UserDtoMapper userDtoMapper;
     private final BlogPostRepository blogPostRepository;
     private final CommonServiceUtils commonServiceUtils;
     private final UserServiceImpl userService;
+    private final PostCache postCache;
+    private final CategoryIndex categoryIndex;
+    private final PostSearchIndex postSearchIndex;
+    private final BulkDeleteService bulkDeleteService;
+    private final int defaultPageSize;
+    private final int maxPageSize;
     private static final Logger LOGGER = LoggerFactory.getLogger(BlogPostServiceImpl.class);
 
 
     @Autowired
     public BlogPostServiceImpl(PostDtoMapper dtoMapper,
+                               UserDtoMapper userDtoMapper,
                                BlogPostRepository blogPostRepository,
                                CommonServiceUtils commonServiceUtils,
-                               UserServiceImpl userService) {
+                               UserServiceImpl userService,
+                               PostCache postCache,
+                               CategoryIndex categoryIndex,
+                               PostSearchIndex postSearchIndex,
+                               BulkDeleteService bulkDeleteService,
+                               @Value("${inkspire.pagination.default-page-size:20}") int defaultPageSize,
+                               @Value("${inkspire.pagination.max-page-size:100}") int maxPageSize) {
         this.dtoMapper = dtoMapper;
+        this.userDtoMapper = userDtoMapper;
         this.blogPostRepository = blogPostRepository;
         this.commonServiceUtils = commonServiceUtils;
         this.userService = userService;
+        this.postCache = postCache;
+        this.categoryIndex = categoryIndex;
+        this.postSearchIndex = postSearchIndex;
+        this.bulkDeleteService = bulkDeleteService;
+        this.defaultPageSize = defaultPageSize;
+        this.maxPageSize = maxPageSize;
     }
 
     /**
@@ -80,8 +111,11 @@ public class BlogPostServiceImpl implements BlogPostService {
             // Create a new blog post entity from the request and comments.
             BlogPost post = getBlogPost(request, comments);
 
-            // Save the blog post and return its DTO.
-            return dtoMapper.apply(blogPostRepository.save(post));
+            // Save and index the blog post and return its DTO.
+            BlogPost savedPost = blogPostRepository.save(post);
+            categoryIndex.put(savedPost.getBlogPostId(), savedPost.getCategories());
+            postSearchIndex.index(savedPost.getBlogPostId(), savedPost.getTitle(), savedPost.getContent());
+            return mapWithLoggedInAuthor(savedPost);
         } else {
             LOGGER.error("Unable to create a new post.");
             throw new UsernameNotFoundException("There is no user with this username.");
@@ -120,9 +154,14 @@ public class BlogPostServiceImpl implements BlogPostService {
         post.setTitle(updateRequest.getTitle());
         post.setContent(updateRequest.getContent());
         post.setCategories(updateRequest.getCategories());
+        post.setLastModifiedDate(new Date());
 
-        // Save the updated post and return its DTO.
-        return dtoMapper.apply(blogPostRepository.save(post));
+        // Save the updated post, drop its rendered copy and return its DTO.
+        PostDto updatedPost = mapWithContents(blogPostRepository.save(post));
+        postCache.invalidate(postId);
+        categoryIndex.put(postId, post.getCategories());
+        postSearchIndex.index(postId, post.getTitle(), post.getContent());
+        return updatedPost;
     }
 
     /**
@@ -133,50 +172,195 @@ public class BlogPostServiceImpl implements BlogPostService {
      */
     @Override
     public BlogPost getBlogPostById(@Positive(message = "Invalid post id") Long postId) {
-        // Find the blog post by ID or throw an exception if not found.
-        return blogPostRepository.findById(postId).orElseThrow(
-                () -> {
+        // Find the blog post by ID or throw an exception if not found, or if its author account was deleted.
+        return blogPostRepository.findById(postId)
+                .filter(post -> post.getAuthor() == null || post.getAuthor().isEnabled())
+                .orElseThrow(
+                        () -> {
+                            LOGGER.error("An error occurred while fetching blog post details.");
+                            return new BlogPostNotFoundException("There is no blog post associated with this ID: " + id);
+                        }
+                );
+    }
+
+    /**
+     * Retrieves a blog post with its content and comments, from the post cache when possible.
+     *
+     * @param postId The ID of the post to retrieve.
+     * @return The DTO representing the blog post.
+     */
+    @Override
+    public PostDto getPost(@Positive(message = "Invalid post id") Long postId) {
+        commonServiceUtils.validatePostId(postId, LOGGER, "post");
+        return postCache.get(postId, id -> mapWithContents(getBlogPostById(id)));
+    }
+
+    /**
+     * Retrieves a reference to a blog post after checking that it exists.
+     *
+     * @param postId The ID of the post.
+     * @return A reference proxy for the blog post.
+     */
+    @Override
+    public BlogPost getBlogPostReference(@Positive(message = "Invalid post id") Long postId) {
+        // Probe by primary key only; the TEXT content of the post is never read.
+        if (!blogPostRepository.existsById(postId)) {
+            LOGGER.error("An error occurred while fetching blog post details.");
+            throw new BlogPostNotFoundException("There is no blog post associated with this ID: " + postId);
+        }
+        return blogPostRepository.getReferenceById(postId);
+    }
+
+    /**
+     * Retrieves the ID of the author of a blog post.
+     *
+     * @param postId The ID of the post.
+     * @return The ID of the author.
+     */
+    @Override
+    public Long getAuthorId(@Positive(message = "Invalid post id") Long postId) {
+        return blogPostRepository.findAuthorIdByPostId(postId)
+                .orElseThrow(() -> {
                     LOGGER.error("An error occurred while fetching blog post details.");
-                    return new BlogPostNotFoundException("There is no blog post associated with this ID: " + id);
-                }
-        );
+                    return new BlogPostNotFoundException("There is no blog post associated with this ID: " + postId);
+                });
     }
 
     /**
-     * Retrieves all blog posts.
+     * Retrieves one page of all blog posts, newest first.
      *
-     * @return A list of DTOs representing all blog posts.
+     * @param cursor The cursor returned with the previous page, or null for the first page.
+     * @param size   The requested page size, or null for the default.
+     * @return A page of summaries and the cursor of the next page.
      */
     @Override
-    public List<PostDto> getAllPosts() {
-        // Retrieve all blog posts from the repository and map them to DTOs.
-        return blogPostRepository.findAll().stream()
-                .map(dtoMapper).toList();
+    public CursorPage<PostSummaryDto> getAllPosts(String cursor, Integer size) {
+        int pageSize = resolvePageSize(size);
+        // Fetch one extra row to learn whether a next page exists without a count query.
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+        List<PostSummaryDto> posts;
+        if (cursor == null || cursor.isBlank()) {
+            posts = blogPostRepository.findSummaryFirstPage(limit);
+        } else {
+            PostCursor position = PostCursor.decode(cursor);
+            posts = blogPostRepository.findSummaryPageAfter(position.getCreationDate(), position.getBlogPostId(), limit);
+        }
+
+        String nextCursor = null;
+        if (posts.size() > pageSize) {
+            posts = posts.subList(0, pageSize);
+            PostSummaryDto last = posts.get(pageSize - 1);
+            nextCursor = new PostCursor(last.getCreationDate(), last.getBlogPostId()).encode();
+        }
+        return new CursorPage<>(withCategories(posts), nextCursor);
     }
 
     /**
      * Retrieves all blog posts for the currently logged-in user.
      *
-     * @return A list of DTOs representing the user's blog posts.
+     * @return A list of summaries of the user's blog posts.
      */
     @Override
-    public List<PostDto> getAllPostForUser() {
+    public List<PostSummaryDto> getAllPostForUser() {
         final String email = commonServiceUtils.getLoggedInUsername();
-        return blogPostRepository.findByAuthor_Email(email).stream()
-                .map(dtoMapper).toList();
+        return withCategories(blogPostRepository.findSummariesByAuthorEmail(email));
     }
 
     /**
-     * Retrieves all blog posts based on a category filter.
+     * Retrieves every blog post matching a category filter.
+     * The matching ids come from the in-memory category index; the summaries are read in chunks of the maximum page size.
      *
      * @param request The filter criteria.
-     * @return A list of DTOs representing the filtered blog posts.
+     * @return A list of summaries of the filtered blog posts, highest post id first.
+     */
+    @Override
+    public List<PostSummaryDto> getAllPosts(CategoryFilterRequest request) {
+        Roaring64Bitmap matches = categoryIndex.query(
+                request.getCategories(), request.getAllCategories(), request.getExcludedCategories());
+        List<PostSummaryDto> posts = new ArrayList<>();
+        List<Long> postIds = CategoryIndex.pageDescending(matches, null, maxPageSize);
+        while (!postIds.isEmpty()) {
+            posts.addAll(summariesOf(postIds));
+            postIds = CategoryIndex.pageDescending(matches, postIds.get(postIds.size() - 1), maxPageSize);
+        }
+        return posts;
+    }
+
+    /**
+     * Retrieves one page of blog posts based on a category filter.
+     * The matching ids come from the in-memory category index; only the summaries of the page are read from the database.
+     *
+     * @param request The filter criteria and page position.
+     * @return A page of summaries of the filtered blog posts.
      */
     @Override
-    public List<PostDto> getAllPosts(CategoryFilterRequest request) {
-        // Retrieve blog posts based on the provided category filter and map them to DTOs.
-        return blogPostRepository.findByCategoriesIn(request.getCategories()).stream()
-                .map(dtoMapper).toList();
+    public CursorPage<PostSummaryDto> getPostPage(CategoryFilterRequest request) {
+        int pageSize = resolvePageSize(request.getSize());
+        Roaring64Bitmap matches = categoryIndex.query(
+                request.getCategories(), request.getAllCategories(), request.getExcludedCategories());
+        List<Long> postIds = CategoryIndex.pageDescending(matches, request.getAfterId(), pageSize + 1);
+
+        String nextCursor = null;
+        if (postIds.size() > pageSize) {
+            postIds = postIds.subList(0, pageSize);
+            nextCursor = String.valueOf(postIds.get(pageSize - 1));
+        }
+        return new CursorPage<>(summariesOf(postIds), nextCursor);
+    }
+
+    /**
+     * Reads the summaries of the given posts and attaches their categories from the category index.
+     *
+     * @param postIds The IDs of the posts.
+     * @return The summaries, highest post id first.
+     */
+    private List<PostSummaryDto> summariesOf(List<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return List.of();
+        }
+        List<PostSummaryDto> posts = blogPostRepository.findSummariesByIds(postIds);
+        for (PostSummaryDto post : posts) {
+            post.setCategories(categoryIndex.categoriesOf(post.getBlogPostId()));
+        }
+        return posts;
+    }
+
+    /**
+     * Searches the title and content of all blog posts in the embedded full-text index.
+     *
+     * @param query The full-text query.
+     * @param page  The zero-based page number, or null for the first page.
+     * @param size  The requested page size, or null for the default.
+     * @return A list of hits, best first.
+     */
+    @Override
+    public List<PostSearchResultDto> searchPosts(String query, Integer page, Integer size) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Search query must not be empty.");
+        }
+        if (page != null && page < 0) {
+            throw new IllegalArgumentException("Page number must not be negative.");
+        }
+        int pageSize = resolvePageSize(size);
+        int pageNumber = page == null ? 0 : page;
+        List<PostSearchResultDto> hits = postSearchIndex.search(query, (long) pageNumber * pageSize, pageSize);
+        if (hits.isEmpty()) {
+            return hits;
+        }
+        // Posts of deleted accounts stay in the index until the purge reaches them.
+        Set<Long> hidden = new HashSet<>(blogPostRepository.findIdsWithDeletedAuthor(
+                hits.stream().map(PostSearchResultDto::getBlogPostId).toList()));
+        return hidden.isEmpty() ? hits : hits.stream().filter(hit -> !hidden.contains(hit.getBlogPostId())).toList();
+    }
+
+    /**
+     * Counts the blog posts of every category from the in-memory category index.
+     *
+     * @return The number of posts per category.
+     */
+    @Override
+    public Map<String, Long> getCategoryCounts() {
+        return categoryIndex.countByCategory();
     }
 
     /**
@@ -202,6 +386,9 @@ public class BlogPostServiceImpl implements BlogPostService {
             try {
                 // Delete the blog post and return a success message.
                 blogPostRepository.delete(post);
+                postCache.invalidate(postId);
+                categoryIndex.removeAll(List.of(postId));
+                postSearchIndex.removeAll(List.of(postId));
                 return "Blog post deleted successfully.";
             } catch (Exception exception) {
                 LOGGER.error("Unable to delete post. \ncause: {}", exception.getLocalizedMessage());
@@ -213,29 +400,59 @@ public class BlogPostServiceImpl implements BlogPostService {
     }
 
     /**
-     * Deletes all blog posts for the currently logged-in user.
+     * Deletes all blog posts for the currently logged-in user, in chunks.
+     * Small deletes complete before returning; large ones continue as a background job.
      *
-     * @return A message indicating the result of the deletion.
+     * @return The status of the delete job.
      */
     @Override
-    @Transactional
-    public String deleteAllBlogPosts() {
+    public DeleteJobStatus deleteAllBlogPosts() {
         if (commonServiceUtils.isUserAuthenticated()) {
-            // Get the email of the currently logged-in user.
+            // Get the email of the currently logged-in user and delete their posts chunk by chunk.
             final String email = commonServiceUtils.getLoggedInUsername();
-            try {
-                // Delete all blog posts for the user and return a success message.
-                blogPostRepository.deleteAllByAuthor_Email(email);
-                return "Blog posts are deleted successfully.";
-            } catch (Exception exception) {
-                LOGGER.error("Unable to delete posts. \ncause: {}", exception.getLocalizedMessage());
-                throw new RuntimeException("Unable to delete the posts. \nCause: " + exception.getLocalizedMessage());
-            }
+            return bulkDeleteService.deletePostsByAuthor(email);
         } else {
             throw new UnauthorizedException("Authentication required to post.");
         }
     }
 
+    /**
+     * Attaches the categories to a list of summaries with a single query.
+     *
+     * @param summaries The summaries as returned by the projection queries.
+     * @return The same summaries, with their categories set.
+     */
+    private List<PostSummaryDto> withCategories(List<PostSummaryDto> summaries) {
+        if (summaries.isEmpty()) {
+            return summaries;
+        }
+        Map<Long, PostSummaryDto> byId = new HashMap<>();
+        for (PostSummaryDto summary : summaries) {
+            summary.setCategories(new HashSet<>());
+            byId.put(summary.getBlogPostId(), summary);
+        }
+        for (Object[] row : blogPostRepository.findCategoriesByPostIds(byId.keySet())) {
+            byId.get((Long) row[0]).getCategories().add((String) row[1]);
+        }
+        return summaries;
+    }
+
+    /**
+     * Clamps a requested page size to the configured bounds.
+     *
+     * @param size The requested page size, or null for the default.
+     * @return The page size to use.
+     */
+    private int resolvePageSize(Integer size) {
+        if (size == null) {
+            return defaultPageSize;
+        }
+        if (size <= 0) {
+            throw new IllegalArgumentException("Page size must be positive.");
+        }
+        return Math.min(size, maxPageSize);
+    }
+
     /**
      * Creates a new BlogPost entity from the provided CreationRequest and comments.
      *
@@ -264,6 +481,11 @@ public class BlogPostServiceImpl implements BlogPostService {
      */
     private User getLoggedInUser() {
         if (commonServiceUtils.isUserAuthenticated()) {
+            UserPrincipal principal = commonServiceUtils.getLoggedInPrincipal();
+            if (principal != null) {
+                // The principal already identifies the user, so bind it by reference without a lookup SELECT.
+                return userService.getUserReference(principal.getUserId());
+            }
             // Get the currently logged-in user by their username.
             return userService.getUserByUsername(commonServiceUtils.getLoggedInUsername());
         } else {
@@ -271,5 +493,48 @@ public class BlogPostServiceImpl implements BlogPostService {
             throw new UnauthorizedException("Unable to authorize user.");
         }
     }
+
+    /**
+     * Maps a stored post and its comments to its DTO. Their content is lazily fetched, so whatever is not loaded yet
+     * is read with one query for the whole post rather than one query per comment.
+     *
+     * @param post The blog post.
+     * @return The DTO representing the blog post.
+     */
+    private PostDto mapWithContents(BlogPost post) {
+        boolean contentLoaded = Hibernate.isPropertyInitialized(post, "content");
+        boolean commentsLoaded = post.getComments().stream()
+                .allMatch(comment -> Hibernate.isPropertyInitialized(comment, "content"));
+        if (contentLoaded && commentsLoaded) {
+            return dtoMapper.apply(post);
+        }
+        String content = null;
+        Map<Long, String> commentContents = new HashMap<>();
+        for (Object[] row : blogPostRepository.findContentsByPostId(post.getBlogPostId())) {
+            content = (String) row[0];
+            if (row[1] != null) {
+                commentContents.put((Long) row[1], (String) row[2]);
+            }
+        }
+        if (contentLoaded) {
+            content = post.getContent();
+        }
+        return dtoMapper.apply(post, userDtoMapper.apply(post.getAuthor()), content, commentContents);
+    }
+
+    /**
+     * Maps a newly written post to its DTO, taking the author from the logged-in principal when available
+     * so the author reference is never initialized.
+     *
+     * @param post The saved blog post.
+     * @return The DTO representing the blog post.
+     */
+    private PostDto mapWithLoggedInAuthor(BlogPost post) {
+        UserPrincipal principal = commonServiceUtils.getLoggedInPrincipal();
+        if (principal != null) {
+            return dtoMapper.apply(post, userDtoMapper.apply(principal));
+        }
+        return dtoMapper.apply(post);
+    }
 }
 
@@ -0,0 +1,230 @@
+package com.inkSpire.application.service.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.inkSpire.application.cache.PostCache;
+import com.inkSpire.application.common.CommonServiceUtils;
+import com.inkSpire.application.dto.job.DeleteJobStatus;
+import com.inkSpire.application.exception.JobNotFoundException;
+import com.inkSpire.application.exception.UnauthorizedException;
+import com.inkSpire.application.index.CategoryIndex;
+import com.inkSpire.application.repository.BlogPostRepository;
+import com.inkSpire.application.repository.CommentRepository;
+import com.inkSpire.application.search.PostSearchIndex;
+import com.inkSpire.application.service.BulkDeleteService;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Runs bulk deletes as chunked set-based statements.
+ * <p>
+ * Each chunk selects up to {@code chunk-size} ids and removes their rows with one DELETE per table, in a transaction
+ * of its own. Posts go children first: the comments of a chunk of posts are deleted in chunks of their own, since a
+ * post may have any number of them, then the category rows and the posts. No entity is loaded, and no transaction
+ * touches more than one chunk of rows. A delete larger than one chunk runs on a small worker pool and is tracked as
+ * a job; finished jobs are remembered for an hour.
+ *
+ * @author Maran.C
+ */
+@Service
+public class BulkDeleteServiceImpl implements BulkDeleteService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BulkDeleteServiceImpl.class);
+
+    private final BlogPostRepository blogPostRepository;
+    private final CommentRepository commentRepository;
+    private final CommonServiceUtils commonServiceUtils;
+    private final PostCache postCache;
+    private final CategoryIndex categoryIndex;
+    private final PostSearchIndex postSearchIndex;
+    private final TransactionTemplate chunkTransaction;
+    private final ExecutorService workers;
+    private final Cache<String, DeleteJob> jobs;
+    private final int chunkSize;
+
+    public BulkDeleteServiceImpl(BlogPostRepository blogPostRepository,
+                                 CommentRepository commentRepository,
+                                 CommonServiceUtils commonServiceUtils,
+                                 PostCache postCache,
+                                 CategoryIndex categoryIndex,
+                                 PostSearchIndex postSearchIndex,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${inkspire.bulk-delete.chunk-size:1000}") int chunkSize,
+                                 @Value("${inkspire.bulk-delete.workers:2}") int workerCount) {
+        this.blogPostRepository = blogPostRepository;
+        this.commentRepository = commentRepository;
+        this.commonServiceUtils = commonServiceUtils;
+        this.postCache = postCache;
+        this.categoryIndex = categoryIndex;
+        this.postSearchIndex = postSearchIndex;
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+        this.chunkTransaction.setPropagationBehavior(TransactionTemplate.PROPAGATION_REQUIRES_NEW);
+        this.chunkSize = chunkSize;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(workerCount, runnable -> {
+            Thread thread = new Thread(runnable, "bulk-delete-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.jobs = Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .expireAfterWrite(Duration.ofHours(1))
+                .build();
+    }
+
+    @Override
+    public DeleteJobStatus deletePostsByAuthor(String email) {
+        DeleteJob job = new DeleteJob("Posts of " + email, commonServiceUtils.getLoggedInUsername());
+        long rows = blogPostRepository.countByAuthor_Email(email) + commentRepository.countByBlogPost_Author_Email(email);
+        return run(job, rows, () -> deletePostChunk(email, job));
+    }
+
+    @Override
+    public DeleteJobStatus deleteCommentsOfPost(Long postId) {
+        DeleteJob job = new DeleteJob("Comments of post " + postId, commonServiceUtils.getLoggedInUsername());
+        long comments = commentRepository.countByBlogPost_BlogPostId(postId);
+        return run(job, comments, () -> deleteCommentChunk(List.of(postId), job));
+    }
+
+    @Override
+    public DeleteJobStatus getJob(String jobId) {
+        DeleteJob job = jobs.getIfPresent(jobId);
+        if (job == null) {
+            throw new JobNotFoundException("There is no delete job with this ID: " + jobId);
+        }
+        if (!commonServiceUtils.isUserAuthenticated() || !job.owner.equals(commonServiceUtils.getLoggedInUsername())) {
+            throw new UnauthorizedException("You are not authorized to see this job.");
+        }
+        return job.toStatus();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdownNow();
+    }
+
+    /**
+     * Runs the chunks of a job inline when they fit in one chunk, or in the background otherwise.
+     */
+    private DeleteJobStatus run(DeleteJob job, long rows, LongSupplier chunk) {
+        jobs.put(job.jobId, job);
+        if (rows <= chunkSize) {
+            runChunks(job, chunk);
+        } else {
+            workers.execute(() -> runChunks(job, chunk));
+        }
+        return job.toStatus();
+    }
+
+    private void runChunks(DeleteJob job, LongSupplier chunk) {
+        try {
+            long deleted;
+            do {
+                deleted = chunk.getAsLong();
+            } while (deleted == chunkSize);
+            job.finish(DeleteJobStatus.State.COMPLETED, null);
+            LOGGER.info("Delete job {} ({}) completed: {} posts, {} comments.",
+                    job.jobId, job.description, job.deletedPosts.get(), job.deletedComments.get());
+        } catch (RuntimeException exception) {
+            LOGGER.error("Delete job {} ({}) failed. cause: {}", job.jobId, job.description, exception.getMessage());
+            job.finish(DeleteJobStatus.State.FAILED, exception.getMessage());
+        }
+    }
+
+    /**
+     * Deletes one chunk of posts of an author: their comments chunk by chunk, then their category rows and the posts.
+     *
+     * @return The number of posts deleted.
+     */
+    private long deletePostChunk(String email, DeleteJob job) {
+        List<Long> postIds = blogPostRepository.findIdsByAuthorEmail(email, PageRequest.of(0, chunkSize));
+        if (postIds.isEmpty()) {
+            return 0;
+        }
+        Boolean deleted;
+        do {
+            while (deleteCommentChunk(postIds, job) == chunkSize) {
+                // Keep going until the posts have no comments left.
+            }
+            deleted = chunkTransaction.execute(status -> {
+                // A comment written since the last comment chunk keeps the posts; the next round deletes it.
+                if (commentRepository.existsByBlogPost_BlogPostIdIn(postIds)) {
+                    return false;
+                }
+                blogPostRepository.deleteCategoriesByPostIds(postIds);
+                job.deletedPosts.addAndGet(blogPostRepository.deleteByIds(postIds));
+                postCache.invalidateAll(postIds);
+                categoryIndex.removeAll(postIds);
+                postSearchIndex.removeAll(postIds);
+                return true;
+            });
+        } while (!Boolean.TRUE.equals(deleted));
+        return postIds.size();
+    }
+
+    /**
+     * Deletes one chunk of the comments of the given posts.
+     *
+     * @return The number of comments deleted.
+     */
+    private long deleteCommentChunk(List<Long> postIds, DeleteJob job) {
+        Long deleted = chunkTransaction.execute(status -> {
+            List<Long> commentIds = commentRepository.findIdsByBlogPostIds(postIds, PageRequest.of(0, chunkSize));
+            if (commentIds.isEmpty()) {
+                return 0L;
+            }
+            job.deletedComments.addAndGet(commentRepository.deleteByIds(commentIds));
+            postCache.invalidateAll(postIds);
+            return (long) commentIds.size();
+        });
+        return deleted == null ? 0 : deleted;
+    }
+
+    /**
+     * Mutable progress of one job; read as a {@link DeleteJobStatus} snapshot.
+     */
+    private static final class DeleteJob {
+
+        private final String jobId = UUID.randomUUID().toString();
+        private final String description;
+        private final String owner;
+        private final Date startedAt = new Date();
+        private final AtomicLong deletedPosts = new AtomicLong();
+        private final AtomicLong deletedComments = new AtomicLong();
+        private volatile DeleteJobStatus.State state = DeleteJobStatus.State.RUNNING;
+        private volatile Date finishedAt;
+        private volatile String error;
+
+        private DeleteJob(String description, String owner) {
+            this.description = description;
+            this.owner = owner;
+        }
+
+        private void finish(DeleteJobStatus.State finalState, String failure) {
+            this.error = failure;
+            this.finishedAt = new Date();
+            this.state = finalState;
+        }
+
+        private DeleteJobStatus toStatus() {
+            return new DeleteJobStatus(jobId, description, state, deletedPosts.get(), deletedComments.get(),
+                    startedAt, finishedAt, error);
+        }
+    }
+}
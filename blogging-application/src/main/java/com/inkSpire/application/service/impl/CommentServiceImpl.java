@@ -1,16 +1,21 @@
 package com.inkSpire.application.service.impl;
 
+import com.inkSpire.application.cache.PostCache;
 import com.inkSpire.application.common.CommonServiceUtils;
 import com.inkSpire.application.dto.comment.CommentCreationRequest;
 import com.inkSpire.application.dto.comment.CommentDto;
 import com.inkSpire.application.dto.comment.CommentDtoMapper;
 import com.inkSpire.application.dto.comment.CommentUpdateRequest;
+import com.inkSpire.application.dto.job.DeleteJobStatus;
+import com.inkSpire.application.dto.user.UserDtoMapper;
 import com.inkSpire.application.entity.BlogPost;
 import com.inkSpire.application.entity.Comment;
 import com.inkSpire.application.entity.User;
 import com.inkSpire.application.exception.CommentNotFoundException;
 import com.inkSpire.application.exception.UnauthorizedException;
 import com.inkSpire.application.repository.CommentRepository;
+import com.inkSpire.application.security.UserPrincipal;
+import com.inkSpire.application.service.BulkDeleteService;
 import com.inkSpire.application.service.CommentService;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
@@ -28,17 +33,26 @@ public class CommentServiceImpl implements CommentService {
     private final BlogPostServiceImpl blogPostService;
     private final UserServiceImpl userService;
     private final CommentDtoMapper commentDtoMapper;
+    private final UserDtoMapper userDtoMapper;
+    private final PostCache postCache;
+    private final BulkDeleteService bulkDeleteService;
     private static final Logger LOGGER = LoggerFactory.getLogger(CommentServiceImpl.class);
 
     public CommentServiceImpl(CommentRepository commentRepository,
                               CommonServiceUtils commonServiceUtils,
                               BlogPostServiceImpl blogPostService,
-                              UserServiceImpl userService, CommentDtoMapper commentDtoMapper) {
+                              UserServiceImpl userService, CommentDtoMapper commentDtoMapper,
+                              UserDtoMapper userDtoMapper,
+                              PostCache postCache,
+                              BulkDeleteService bulkDeleteService) {
         this.commentRepository = commentRepository;
         this.commonServiceUtils = commonServiceUtils;
         this.blogPostService = blogPostService;
         this.userService = userService;
         this.commentDtoMapper = commentDtoMapper;
+        this.userDtoMapper = userDtoMapper;
+        this.postCache = postCache;
+        this.bulkDeleteService = bulkDeleteService;
     }
 
     @Override
@@ -46,14 +60,20 @@ public class CommentServiceImpl implements CommentService {
         if (commonServiceUtils.isUserAuthenticated()) {
             Long postId = creationRequest.getPostId();
             commonServiceUtils.validatePostId(postId, LOGGER, "comment");
-            BlogPost post = blogPostService.getBlogPostById(postId);
+            BlogPost post = blogPostService.getBlogPostReference(postId);
             Comment comment = new Comment();
             comment.setContent(creationRequest.getContent());
             comment.setCreationDate(new Date());
             comment.setLastModifiedDate(new Date());
             comment.setBlogPost(post);
             comment.setAuthor(getLoggedInUser());
-            return commentDtoMapper.apply(commentRepository.save(comment));
+            Comment savedComment = commentRepository.save(comment);
+            postCache.invalidate(postId);
+            UserPrincipal principal = commonServiceUtils.getLoggedInPrincipal();
+            if (principal != null) {
+                return commentDtoMapper.apply(savedComment, userDtoMapper.apply(principal));
+            }
+            return commentDtoMapper.apply(savedComment);
         } else {
             LOGGER.error("Unauthorized user.");
             throw new UnauthorizedException("Unauthorized user.");
@@ -74,7 +94,9 @@ public class CommentServiceImpl implements CommentService {
                     );
             existingComment.setContent(updateRequest.getContent());
             existingComment.setLastModifiedDate(new Date());
-            return commentDtoMapper.apply(commentRepository.save(existingComment));
+            CommentDto updatedComment = commentDtoMapper.apply(commentRepository.save(existingComment));
+            postCache.invalidate(existingComment.getBlogPost().getBlogPostId());
+            return updatedComment;
         } else {
             LOGGER.error("Unauthorized user.");
             throw new UnauthorizedException("Unauthorized user.");
@@ -99,6 +121,7 @@ public class CommentServiceImpl implements CommentService {
                     );
             try {
                 commentRepository.delete(existingComment);
+                postCache.invalidate(existingComment.getBlogPost().getBlogPostId());
                 return "Comment deleted successfully.";
             } catch (Exception ex) {
                 LOGGER.error("Unable to delete comment.\nCause: {}", ex.getLocalizedMessage());
@@ -111,24 +134,36 @@ public class CommentServiceImpl implements CommentService {
     }
 
     @Override
-    public String deleteAllComments(Long postID) {
+    public DeleteJobStatus deleteAllComments(Long postID) {
         if (commonServiceUtils.isUserAuthenticated()) {
-            commonServiceUtils.validatePostId(postID, LOGGER, "comment");
-            try {
-                commentRepository.deleteAllByBlogPost_BlogPostId(postID);
-                return "Comments are deleted successfully.";
-            } catch (Exception ex) {
-                LOGGER.error("Unable to delete comments.\nCause: {}", ex.getLocalizedMessage());
-                throw new RuntimeException("Unable to delete comments. \nCause: " + ex.getLocalizedMessage());
+            commonServiceUtils.validatePostId(postID, LOGGER, "post");
+            // Only the author of the post or an administrator may wipe its comments.
+            if (!commonServiceUtils.isLoggedInUserAdmin()
+                    && !blogPostService.getAuthorId(postID).equals(getLoggedInUserId())) {
+                LOGGER.error("User is not allowed to delete the comments of post {}.", postID);
+                throw new UnauthorizedException("Only the author of the post can delete all of its comments.");
             }
+            return bulkDeleteService.deleteCommentsOfPost(postID);
         } else {
             LOGGER.error("Unauthorized user.");
             throw new UnauthorizedException("Unauthorized user.");
         }
     }
 
+    private Long getLoggedInUserId() {
+        UserPrincipal principal = commonServiceUtils.getLoggedInPrincipal();
+        if (principal != null) {
+            return principal.getUserId();
+        }
+        return userService.getUserByUsername(commonServiceUtils.getLoggedInUsername()).getUserId();
+    }
+
     private User getLoggedInUser() {
         if (commonServiceUtils.isUserAuthenticated()) {
+            UserPrincipal principal = commonServiceUtils.getLoggedInPrincipal();
+            if (principal != null) {
+                return userService.getUserReference(principal.getUserId());
+            }
             return userService.getUserByUsername(commonServiceUtils.getLoggedInUsername());
         } else {
             throw new UnauthorizedException("Unable to authorize user.");
@@ -1,61 +1,148 @@
 package com.inkSpire.application.service.impl;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import com.inkSpire.application.dto.authentication.AuthenticationRequest;
 import com.inkSpire.application.dto.authentication.AuthenticationResponse;
+import com.inkSpire.application.entity.User;
+import com.inkSpire.application.security.SigningKeyRing;
+import com.inkSpire.application.security.VerifiedToken;
 import com.inkSpire.application.service.JwtService;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
-import io.jsonwebtoken.io.Decoders;
-import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.security.SignatureException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
+/**
+ * JWT issuing and validation engine.
+ * <p>
+ * Tokens are signed with the active key of the {@link SigningKeyRing} and carry its ID as the {@code kid} header.
+ * The parser is built once and resolves the verification key by {@code kid} from the precomputed keys of the ring,
+ * so rotating keys needs no restart and no per-request key derivation. Each token is verified at most once
+ * per cache lifetime: the verified claims are kept in a bounded cache keyed by the SHA-256 digest of the
+ * token, and every entry expires no later than the token itself.
+ *
+ * @author Maran.C
+ */
 @Service
 public class JwtServiceImpl implements JwtService {
-    @Override
-    public String extractUsername(String token) {
-        return extractClaim(token, Claims::getSubject);
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException exception) {
+            throw new IllegalStateException("SHA-256 is not available.", exception);
+        }
+    });
+
+    private final SigningKeyRing keyRing;
+    private final JwtParser parser;
+    private final Cache<String, VerifiedToken> verifiedTokens;
+
+    public JwtServiceImpl(SigningKeyRing keyRing,
+                          @Value("${inkspire.jwt.verified-token-cache.maximum-size:10000}") long maximumSize,
+                          @Value("${inkspire.jwt.verified-token-cache.maximum-ttl-seconds:600}") long maximumTtlSeconds) {
+        this.keyRing = keyRing;
+        this.parser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    @Override
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                        Key key = keyRing.verificationKey(header.getKeyId());
+                        if (key == null) {
+                            throw new SignatureException("Unknown or retired signing key: " + header.getKeyId());
+                        }
+                        return key;
+                    }
+                })
+                .build();
+        final long maximumTtlNanos = TimeUnit.SECONDS.toNanos(maximumTtlSeconds);
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new Expiry<String, VerifiedToken>() {
+                    @Override
+                    public long expireAfterCreate(String key, VerifiedToken token, long currentTime) {
+                        long remainingNanos = TimeUnit.MILLISECONDS.toNanos(
+                                Math.max(0, token.getExpirationMillis() - System.currentTimeMillis()));
+                        return Math.min(remainingNanos, maximumTtlNanos);
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, VerifiedToken token, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, VerifiedToken token, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+        // Tokens verified with a retired key must be checked again, and fail.
+        keyRing.onKeysRemoved(verifiedTokens::invalidateAll);
     }
 
     @Override
-    public Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+    public VerifiedToken verifyToken(String token) {
+        final String digest = digest(token);
+        VerifiedToken verifiedToken = verifiedTokens.getIfPresent(digest);
+        if (verifiedToken == null) {
+            // Signature, format and expiry are all checked here; an invalid token throws and is never cached.
+            verifiedToken = new VerifiedToken(parser.parseClaimsJws(token).getBody());
+            verifiedTokens.put(digest, verifiedToken);
+        } else if (verifiedToken.isExpired(System.currentTimeMillis())) {
+            verifiedTokens.invalidate(digest);
+            // Re-parse so the caller sees the same ExpiredJwtException as an uncached token.
+            return new VerifiedToken(parser.parseClaimsJws(token).getBody());
+        }
+        return verifiedToken;
     }
 
     @Override
-    public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
-        return claimsResolver.apply(claims);
+    public String extractUsername(String token) {
+        return verifyToken(token).getSubject();
     }
 
-    private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSignKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    @Override
+    public Date extractExpiration(String token) {
+        return verifyToken(token).getExpiration();
     }
 
-    private Key getSignKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(SECRET);
-        return Keys.hmacShaKeyFor(keyBytes);
+    @Override
+    public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
+        return verifyToken(token).resolve(claimsResolver);
     }
 
     @Override
     public Boolean validateToken(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return ((username.equals(userDetails.getUsername())) && !isTokenExpired(token));
+        return validateToken(verifyToken(token), userDetails);
     }
 
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    @Override
+    public boolean validateToken(VerifiedToken token, UserDetails userDetails) {
+        return token.getSubject().equals(userDetails.getUsername())
+                && !token.isExpired(System.currentTimeMillis());
     }
 
     @Override
@@ -64,13 +151,32 @@ public class JwtServiceImpl implements JwtService {
         return createToken(claims, username);
     }
 
+    @Override
+    public String generateToken(UserDetails userDetails) {
+        Map<String, Object> claims = new HashMap<>();
+        if (userDetails instanceof User user) {
+            claims.put(VerifiedToken.USER_ID_CLAIM, user.getUserId());
+            claims.put(VerifiedToken.FIRST_NAME_CLAIM, user.getFirstname());
+            claims.put(VerifiedToken.LAST_NAME_CLAIM, user.getLastname());
+        }
+        List<String> roles = userDetails.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .toList();
+        claims.put(VerifiedToken.ROLES_CLAIM, roles);
+        return createToken(claims, userDetails.getUsername());
+    }
+
     private String createToken(Map<String, Object> claims, String username) {
+        final long now = System.currentTimeMillis();
+        final SigningKeyRing.SigningKey signingKey = keyRing.activeKey();
         return Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, signingKey.keyId())
                 .setClaims(claims)
+                .setId(UUID.randomUUID().toString())
                 .setSubject(username)
-                .setIssuedAt(new Date(System.currentTimeMillis()))
-                .setExpiration(new Date(System.currentTimeMillis() * VALIDITY_TIME))
-                .signWith(getSignKey(), SignatureAlgorithm.HS256)
+                .setIssuedAt(new Date(now))
+                .setExpiration(new Date(now + TimeUnit.SECONDS.toMillis(VALIDITY_TIME)))
+                .signWith(signingKey.key(), SignatureAlgorithm.HS256)
                 .compact();
     }
 
@@ -78,4 +184,20 @@ public class JwtServiceImpl implements JwtService {
     public AuthenticationResponse generateAuthenticationResponse(AuthenticationRequest request) {
         return new AuthenticationResponse(generateToken(request.getUsername()));
     }
+
+    @Override
+    public AuthenticationResponse generateAuthenticationResponse(Authentication authentication) {
+        if (authentication.getPrincipal() instanceof UserDetails userDetails) {
+            return new AuthenticationResponse(generateToken(userDetails));
+        }
+        return new AuthenticationResponse(generateToken(authentication.getName()));
+    }
+
+    /**
+     * Computes the cache key of a token. Only the digest is retained, never the bearer token itself.
+     */
+    private static String digest(String token) {
+        byte[] hash = SHA_256.get().digest(token.getBytes(StandardCharsets.US_ASCII));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+    }
 }
@@ -0,0 +1,124 @@
+package com.inkSpire.application.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.inkSpire.application.dto.blogPost.PostExportDto;
+import com.inkSpire.application.entity.BlogPost;
+import com.inkSpire.application.repository.BlogPostRepository;
+import com.inkSpire.application.service.PostExportService;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.*;
+import java.util.stream.Stream;
+
+/**
+ * Streams all blog posts as NDJSON from a forward-only database cursor.
+ * <p>
+ * Posts are read in chunks: each chunk gets its categories with one query, is written and flushed to the client,
+ * and is then evicted from the persistence context, so the heap holds at most one chunk at any time.
+ *
+ * @author Maran.C
+ */
+@Service
+public class PostExportServiceImpl implements PostExportService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PostExportServiceImpl.class);
+    private static final byte NEWLINE = '\n';
+
+    private final BlogPostRepository blogPostRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ObjectWriter lineWriter;
+    private final int chunkSize;
+
+    public PostExportServiceImpl(BlogPostRepository blogPostRepository,
+                                 EntityManager entityManager,
+                                 PlatformTransactionManager transactionManager,
+                                 ObjectMapper objectMapper,
+                                 @Value("${inkspire.export.chunk-size:500}") int chunkSize) {
+        this.blogPostRepository = blogPostRepository;
+        this.entityManager = entityManager;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.lineWriter = objectMapper.writerFor(PostExportDto.class);
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public long exportPosts(OutputStream outputStream) throws IOException {
+        try {
+            Long exported = readOnlyTransaction.execute(status -> {
+                long count = 0;
+                List<Object[]> chunk = new ArrayList<>(chunkSize);
+                try (Stream<Object[]> posts = blogPostRepository.streamAllForExport()) {
+                    Iterator<Object[]> iterator = posts.iterator();
+                    while (iterator.hasNext()) {
+                        chunk.add(iterator.next());
+                        if (chunk.size() == chunkSize) {
+                            count += writeChunk(chunk, outputStream);
+                        }
+                    }
+                    count += writeChunk(chunk, outputStream);
+                }
+                return count;
+            });
+            LOGGER.info("Exported {} posts.", exported);
+            return exported == null ? 0 : exported;
+        } catch (UncheckedIOException exception) {
+            // The client went away or the connection broke; surface it as the IOException it is.
+            throw exception.getCause();
+        }
+    }
+
+    /**
+     * Writes and flushes one chunk of posts, then detaches them and clears the chunk.
+     */
+    private long writeChunk(List<Object[]> chunk, OutputStream outputStream) {
+        if (chunk.isEmpty()) {
+            return 0;
+        }
+        Map<Long, Set<String>> categoriesByPost = new HashMap<>();
+        for (Object[] row : chunk) {
+            categoriesByPost.put(((BlogPost) row[0]).getBlogPostId(), new TreeSet<>());
+        }
+        for (Object[] row : blogPostRepository.findCategoriesByPostIds(categoriesByPost.keySet())) {
+            categoriesByPost.get((Long) row[0]).add((String) row[1]);
+        }
+
+        try {
+            for (Object[] row : chunk) {
+                BlogPost post = (BlogPost) row[0];
+                // The content is lazy on the entity; the cursor selects it alongside instead.
+                PostExportDto line = new PostExportDto(
+                        post.getBlogPostId(),
+                        post.getTitle(),
+                        (String) row[1],
+                        post.getCreationDate(),
+                        post.getLastModifiedDate(),
+                        post.getAuthor() == null ? null : post.getAuthor().getEmail(),
+                        categoriesByPost.get(post.getBlogPostId())
+                );
+                outputStream.write(lineWriter.writeValueAsBytes(line));
+                outputStream.write(NEWLINE);
+            }
+            outputStream.flush();
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+
+        int written = chunk.size();
+        chunk.clear();
+        // Nothing is modified during the export, so dropping the whole persistence context is safe.
+        entityManager.clear();
+        return written;
+    }
+}
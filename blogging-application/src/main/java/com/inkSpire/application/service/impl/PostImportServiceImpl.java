@@ -0,0 +1,238 @@
+package com.inkSpire.application.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.inkSpire.application.common.CommonServiceUtils;
+import com.inkSpire.application.dto.blogPost.ImportReport;
+import com.inkSpire.application.dto.blogPost.PostImportRequest;
+import com.inkSpire.application.dto.comment.CommentImportRequest;
+import com.inkSpire.application.entity.BlogPost;
+import com.inkSpire.application.entity.Comment;
+import com.inkSpire.application.entity.User;
+import com.inkSpire.application.exception.UnauthorizedException;
+import com.inkSpire.application.index.CategoryIndex;
+import com.inkSpire.application.search.PostSearchIndex;
+import com.inkSpire.application.security.UserPrincipal;
+import com.inkSpire.application.service.PostImportService;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Imports blog posts from an NDJSON stream.
+ * <p>
+ * The input is read line by line and never held in full. Each batch of lines is parsed and validated in parallel,
+ * then its valid posts are persisted in one transaction. Post and comment ids come from pooled generators, so
+ * Hibernate can send the INSERTs as JDBC batches ordered by table. The persistence context is cleared at the end of
+ * every batch transaction to keep memory flat.
+ *
+ * @author Maran.C
+ */
+@Service
+public class PostImportServiceImpl implements PostImportService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PostImportServiceImpl.class);
+
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectReader lineReader;
+    private final Validator validator;
+    private final CommonServiceUtils commonServiceUtils;
+    private final UserServiceImpl userService;
+    private final CategoryIndex categoryIndex;
+    private final PostSearchIndex postSearchIndex;
+    private final int batchSize;
+    private final int maxErrors;
+
+    public PostImportServiceImpl(EntityManager entityManager,
+                                 PlatformTransactionManager transactionManager,
+                                 ObjectMapper objectMapper,
+                                 Validator validator,
+                                 CommonServiceUtils commonServiceUtils,
+                                 UserServiceImpl userService,
+                                 CategoryIndex categoryIndex,
+                                 PostSearchIndex postSearchIndex,
+                                 @Value("${inkspire.import.batch-size:1000}") int batchSize,
+                                 @Value("${inkspire.import.max-errors:1000}") int maxErrors) {
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.lineReader = objectMapper.readerFor(PostImportRequest.class);
+        this.validator = validator;
+        this.commonServiceUtils = commonServiceUtils;
+        this.userService = userService;
+        this.categoryIndex = categoryIndex;
+        this.postSearchIndex = postSearchIndex;
+        this.batchSize = batchSize;
+        this.maxErrors = maxErrors;
+    }
+
+    @Override
+    public ImportReport importPosts(InputStream inputStream) throws IOException {
+        final Long authorId = getLoggedInUserId();
+        ImportReport report = new ImportReport();
+        List<ImportLine> batch = new ArrayList<>(batchSize);
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        long lineNumber = 0;
+        String text;
+        while ((text = reader.readLine()) != null) {
+            lineNumber++;
+            if (text.isBlank()) {
+                continue;
+            }
+            batch.add(new ImportLine(lineNumber, text));
+            if (batch.size() == batchSize) {
+                importBatch(batch, authorId, report);
+                batch.clear();
+            }
+        }
+        importBatch(batch, authorId, report);
+        LOGGER.info("Import finished: {} lines, {} posts imported, {} lines rejected.",
+                report.getLines(), report.getImported(), report.getFailed());
+        return report;
+    }
+
+    private void importBatch(List<ImportLine> batch, Long authorId, ImportReport report) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        report.addLines(batch.size());
+
+        // Parsing and validation are CPU-bound and independent per line.
+        List<ImportLine> parsed = batch.parallelStream().map(this::parse).toList();
+
+        List<ImportLine> valid = new ArrayList<>(parsed.size());
+        for (ImportLine line : parsed) {
+            if (line.error == null) {
+                valid.add(line);
+            } else {
+                report.addError(line.number, line.error, maxErrors);
+            }
+        }
+        if (valid.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> persist(valid, authorId));
+            report.addImported(valid.size());
+        } catch (RuntimeException exception) {
+            LOGGER.error("Unable to import a batch of {} posts. cause: {}", valid.size(), exception.getMessage());
+            String message = "Batch rejected by the database: "
+                    + NestedExceptionUtils.getMostSpecificCause(exception).getMessage();
+            valid.forEach(line -> report.addError(line.number, message, maxErrors));
+        }
+        LOGGER.info("Import progress: {} lines read, {} posts imported.", report.getLines(), report.getImported());
+    }
+
+    private void persist(List<ImportLine> lines, Long authorId) {
+        User author = entityManager.getReference(User.class, authorId);
+        Date now = new Date();
+        List<BlogPost> posts = new ArrayList<>(lines.size());
+
+        for (ImportLine line : lines) {
+            PostImportRequest request = line.request;
+            Date creationDate = request.getCreationDate() == null ? now : request.getCreationDate();
+            BlogPost post = new BlogPost();
+            post.setTitle(request.getTitle());
+            post.setContent(request.getContent());
+            post.setCreationDate(creationDate);
+            post.setLastModifiedDate(creationDate);
+            post.setAuthor(author);
+            post.setCategories(request.getCategories() == null ? new HashSet<>() : new HashSet<>(request.getCategories()));
+
+            List<Comment> comments = new ArrayList<>();
+            if (request.getComments() != null) {
+                for (CommentImportRequest commentRequest : request.getComments()) {
+                    Date commentDate = commentRequest.getCreationDate() == null ? now : commentRequest.getCreationDate();
+                    comments.add(new Comment(null, commentRequest.getContent(), commentDate, commentDate, author, post));
+                }
+            }
+            post.setComments(comments);
+            // Comments are persisted through the cascade on BlogPost.comments.
+            entityManager.persist(post);
+            posts.add(post);
+        }
+        entityManager.flush();
+
+        Map<Long, Set<String>> categoriesByPostId = new HashMap<>();
+        posts.forEach(post -> categoriesByPostId.put(post.getBlogPostId(), post.getCategories()));
+        categoryIndex.putAll(categoriesByPostId);
+        postSearchIndex.indexAll(posts);
+        // Both indexes copied what they need, so the batch can be detached before the transaction ends.
+        entityManager.clear();
+    }
+
+    private ImportLine parse(ImportLine line) {
+        try {
+            PostImportRequest request = lineReader.readValue(line.text);
+            Set<ConstraintViolation<PostImportRequest>> violations = validator.validate(request);
+            if (!violations.isEmpty()) {
+                return line.failed(violations.stream()
+                        .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                        .sorted()
+                        .collect(Collectors.joining("; ")));
+            }
+            return line.parsed(request);
+        } catch (JsonProcessingException exception) {
+            return line.failed("Invalid JSON: " + exception.getOriginalMessage());
+        }
+    }
+
+    private Long getLoggedInUserId() {
+        if (!commonServiceUtils.isUserAuthenticated()) {
+            throw new UnauthorizedException("Authentication required to import posts.");
+        }
+        UserPrincipal principal = commonServiceUtils.getLoggedInPrincipal();
+        if (principal != null) {
+            return principal.getUserId();
+        }
+        return userService.getUserByUsername(commonServiceUtils.getLoggedInUsername()).getUserId();
+    }
+
+    /**
+     * One non-blank line of the input, with its parsed request or the reason it was rejected.
+     */
+    private static final class ImportLine {
+
+        private final long number;
+        private final String text;
+        private final PostImportRequest request;
+        private final String error;
+
+        private ImportLine(long number, String text) {
+            this(number, text, null, null);
+        }
+
+        private ImportLine(long number, String text, PostImportRequest request, String error) {
+            this.number = number;
+            this.text = text;
+            this.request = request;
+            this.error = error;
+        }
+
+        private ImportLine parsed(PostImportRequest request) {
+            return new ImportLine(number, null, request, null);
+        }
+
+        private ImportLine failed(String error) {
+            return new ImportLine(number, null, null, error);
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.inkSpire.application.entity.Role;
 import com.inkSpire.application.exception.RoleAlreadyExistsException;
 import com.inkSpire.application.exception.RoleNotFoundException;
 import com.inkSpire.application.repository.RoleRepository;
+import com.inkSpire.application.security.RoleRegistry;
 import com.inkSpire.application.service.RoleService;
 import jakarta.transaction.Transactional;
 import jakarta.validation.Valid;
@@ -14,24 +15,35 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
+/**
+ * Role service answering reads from the {@link RoleRegistry}; only writes reach the role table.
+ *
+ * @author Maran.C
+ */
 @Service
 public class RoleServiceImpl implements RoleService {
     private final RoleRepository roleRepo;
+    private final RoleRegistry roleRegistry;
     private static final Logger LOGGER = LoggerFactory.getLogger(RoleServiceImpl.class);
 
     @Autowired
-    public RoleServiceImpl(RoleRepository roleRepo) {
+    public RoleServiceImpl(RoleRepository roleRepo, RoleRegistry roleRegistry) {
         this.roleRepo = roleRepo;
+        this.roleRegistry = roleRegistry;
     }
 
     @Override
     public Role saveRole(@NotNull @Valid Role role) {
-        if ((roleRepo.findByRoleName(role.getRoleName())).isPresent()) {
+        if (roleRegistry.find(role.getRoleName()).isPresent()) {
             LOGGER.error("There is a role already exist with name {}", role.getRoleName());
             throw new RoleAlreadyExistsException("There is a role already exist with name.");
         } else {
-            return roleRepo.save(role);
+            Role savedRole = roleRepo.save(role);
+            roleRegistry.put(null, savedRole);
+            return savedRole;
         }
     }
 
@@ -45,27 +57,52 @@ public class RoleServiceImpl implements RoleService {
 
         existingRole.setRoleName(role.getRoleName());
         existingRole.setRoleDescription(role.getRoleDescription());
-        return roleRepo.save(existingRole);
+        Role savedRole = roleRepo.save(existingRole);
+        roleRegistry.put(roleName, savedRole);
+        return savedRole;
 
     }
 
     @Override
     public Role getRoleByName(String roleName) {
-        return roleRepo.findByRoleName(roleName).orElseThrow(() -> {
+        return roleRegistry.find(roleName).orElseThrow(() -> {
             LOGGER.error("An error occurred while retrieving the role details.");
             return new RoleNotFoundException("There is no role with this role.");
         });
     }
 
+    /**
+     * Gets a reference to a role for attaching it to a user, without querying the role table.
+     *
+     * @param roleName The name of the role.
+     * @return A reference proxy for the role.
+     */
+    @Override
+    public Role getRoleReference(String roleName) {
+        return roleRepo.getReferenceById(getRoleByName(roleName).getRoleID());
+    }
+
     @Override
     public List<Role> getAllRoles() {
-        return roleRepo.findAll();
+        return roleRegistry.all();
     }
 
+    /**
+     * Creates the default roles that do not exist yet and loads every role into the registry.
+     */
+    @Transactional
     @Override
     public void init() {
-        Role adminRole = new Role("ADMIN", "Administrator of this app.");
-        Role userRole = new Role("USER", "User of this app.");
-        roleRepo.saveAll(List.of(adminRole, userRole));
+        Set<String> existingNames = roleRepo.findAll().stream()
+                .map(role -> role.getRoleName().toUpperCase())
+                .collect(Collectors.toSet());
+        List<Role> missingRoles = List.of(
+                        new Role("ADMIN", "Administrator of this app."),
+                        new Role("USER", "User of this app."))
+                .stream()
+                .filter(role -> !existingNames.contains(role.getRoleName()))
+                .toList();
+        roleRepo.saveAll(missingRoles);
+        roleRegistry.replaceAll(roleRepo.findAll());
     }
 }
@@ -1,5 +1,6 @@
 package com.inkSpire.application.service.impl;
 
+import com.inkSpire.application.cache.PostCache;
 import com.inkSpire.application.common.CommonServiceUtils;
 import com.inkSpire.application.dto.user.UserRegistrationRequest;
 import com.inkSpire.application.dto.user.UserRegistrationResponse;
@@ -11,12 +12,17 @@ import com.inkSpire.application.exception.AgeBelow18Exception;
 import com.inkSpire.application.exception.UnauthorizedException;
 import com.inkSpire.application.exception.UserAlreadyExistWithUsernameException;
 import com.inkSpire.application.exception.UserNotFoundException;
+import com.inkSpire.application.repository.BlogPostRepository;
+import com.inkSpire.application.repository.CommentRepository;
 import com.inkSpire.application.repository.UserRepository;
+import com.inkSpire.application.service.AccountDeletionService;
+import com.inkSpire.application.service.AuthTokenService;
 import com.inkSpire.application.service.UserService;
 import jakarta.transaction.Transactional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -31,8 +37,12 @@ public class UserServiceImpl implements UserService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final RoleServiceImpl roleService;
-    private final JwtServiceImpl jwtService;
+    private final AuthTokenService authTokenService;
     private final CommonServiceUtils commonServiceUtils;
+    private final AccountDeletionService accountDeletionService;
+    private final BlogPostRepository blogPostRepository;
+    private final CommentRepository commentRepository;
+    private final PostCache postCache;
 
     private static final Logger LOGGER = LoggerFactory.getLogger(UserServiceImpl.class);
 
@@ -40,13 +50,21 @@ public class UserServiceImpl implements UserService {
     public UserServiceImpl(UserRepository userRepository,
                            PasswordEncoder passwordEncoder,
                            RoleServiceImpl roleService,
-                           JwtServiceImpl jwtService,
-                           CommonServiceUtils commonServiceUtils) {
+                           AuthTokenService authTokenService,
+                           CommonServiceUtils commonServiceUtils,
+                           AccountDeletionService accountDeletionService,
+                           BlogPostRepository blogPostRepository,
+                           CommentRepository commentRepository,
+                           PostCache postCache) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.roleService = roleService;
-        this.jwtService = jwtService;
+        this.authTokenService = authTokenService;
         this.commonServiceUtils = commonServiceUtils;
+        this.accountDeletionService = accountDeletionService;
+        this.blogPostRepository = blogPostRepository;
+        this.commentRepository = commentRepository;
+        this.postCache = postCache;
     }
 
     @Override
@@ -59,6 +77,24 @@ public class UserServiceImpl implements UserService {
         );
     }
 
+    /**
+     * Stores a password re-hashed by the authentication provider after a successful login, when the stored hash used
+     * a cost other than the current one.
+     *
+     * @param user        The authenticated user.
+     * @param newPassword The password hashed with the current cost.
+     * @return The user with the new password.
+     */
+    @Override
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        userRepository.updatePassword(user.getUsername(), newPassword);
+        if (user instanceof User entity) {
+            entity.setPassword(newPassword);
+        }
+        LOGGER.debug("Re-hashed the password of {} with the current cost.", user.getUsername());
+        return user;
+    }
+
     @Override
     public UserRegistrationResponse saveUser(UserRegistrationRequest userRegistrationRequest) {
         User user = extractUserFromRegistrationRequest("USER", userRegistrationRequest);
@@ -70,7 +106,7 @@ public class UserServiceImpl implements UserService {
                 user.getDateOfBirth(),
                 user.getFirstname(),
                 user.getLastname(),
-                jwtService.generateToken(user.getUsername())
+                authTokenService.issueToken(user)
         );
     }
 
@@ -85,7 +121,7 @@ public class UserServiceImpl implements UserService {
                 user.getDateOfBirth(),
                 user.getFirstname(),
                 user.getLastname(),
-                jwtService.generateToken(user.getUsername())
+                authTokenService.issueToken(user)
         );
     }
 
@@ -102,9 +138,23 @@ public class UserServiceImpl implements UserService {
 
                 });
 
+        // Rendered posts embed only the email and name of the author of the post and of its comments, so their IDs
+        // are read, before the email can change, only when one of those changes.
+        boolean renderedFieldsChanged = !Objects.equals(existingUser.getEmail(), userRegistrationRequest.getEmail())
+                || !Objects.equals(existingUser.getFirstname(), userRegistrationRequest.getFirstname())
+                || !Objects.equals(existingUser.getLastname(), userRegistrationRequest.getLastname());
+        List<Long> postIds = List.of();
+        List<Long> commentedPostIds = List.of();
+        if (renderedFieldsChanged) {
+            postIds = blogPostRepository.findIdsByAuthorEmail(username, Pageable.unpaged());
+            commentedPostIds = commentRepository.findPostIdsByAuthorId(existingUser.getUserId());
+        }
+
         assigningUserDetails(userRegistrationRequest, existingUser);
 
         userRepository.save(existingUser);
+        postCache.invalidateAll(postIds);
+        postCache.invalidateAll(commentedPostIds);
         return new UserUpdateResponse(
                 existingUser.getEmail(),
                 existingUser.getPassword(),
@@ -129,10 +179,8 @@ public class UserServiceImpl implements UserService {
                 }
         );
         try {
-            existingUser.getRoles().clear();
-            existingUser.getComments().clear();
-            existingUser.getBlogPosts().clear();
-            userRepository.delete(existingUser);
+            // The account is disabled and hidden now; its posts and comments are purged in the background.
+            accountDeletionService.tombstone(existingUser);
             return "User successfully deleted.";
         } catch (Exception ex) {
             LOGGER.error("Unable to delete user. cause: {}", ex.getMessage());
@@ -140,6 +188,12 @@ public class UserServiceImpl implements UserService {
         }
     }
 
+    @Override
+    public String logout(String token) {
+        authTokenService.revoke(token);
+        return "User successfully logged out.";
+    }
+
     @Override
     public User getUserByUsername(String username) {
         return userRepository.findUserByEmail(username).orElseThrow(
@@ -150,6 +204,11 @@ public class UserServiceImpl implements UserService {
         );
     }
 
+    @Override
+    public User getUserReference(Long userId) {
+        return userRepository.getReferenceById(userId);
+    }
+
     private int[] calculateAgeFromDateOfBirth(Date birthDate) {
         Calendar birthCalendar = Calendar.getInstance();
         birthCalendar.setTime(birthDate);
@@ -189,7 +248,7 @@ public class UserServiceImpl implements UserService {
         List<Comment> comments = new ArrayList<>();
         List<BlogPost> posts = new ArrayList<>();
 
-        user.setRoles(Set.of(roleService.getRoleByName(role.toUpperCase())));
+        user.setRoles(Set.of(roleService.getRoleReference(role.toUpperCase())));
 
         if (role.equalsIgnoreCase("Admin")) {
             user.setComments(null);
@@ -0,0 +1,115 @@
+package com.inkSpire.application.benchmark;
+
+import com.inkSpire.application.entity.Gender;
+import com.inkSpire.application.entity.Role;
+import com.inkSpire.application.entity.User;
+import com.inkSpire.application.filter.JwtAuthorizationFilter;
+import com.inkSpire.application.repository.RevokedTokenRepository;
+import com.inkSpire.application.repository.UserRepository;
+import com.inkSpire.application.security.AccountTombstones;
+import com.inkSpire.application.security.SessionStore;
+import com.inkSpire.application.security.SigningKeyRing;
+import com.inkSpire.application.security.TokenRevocationList;
+import com.inkSpire.application.service.JwtService;
+import com.inkSpire.application.service.impl.JwtServiceImpl;
+import jakarta.servlet.ServletException;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the cost of authorizing one request in {@code JwtAuthorizationFilter} for each token kind.
+ * <ul>
+ *     <li>{@code jwtCached}: a JWT already in the verified-token cache, the common case in JWT mode.</li>
+ *     <li>{@code jwtUncached}: a JWT parsed and signature-checked on every request.</li>
+ *     <li>{@code opaqueSession}: a session token resolved through the session store.</li>
+ * </ul>
+ * Run with {@code main} from the IDE, or after {@code mvn test-compile} with the test classpath.
+ *
+ * @author Maran.C
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AuthModeBenchmark {
+
+    private JwtAuthorizationFilter cachingFilter;
+    private JwtAuthorizationFilter uncachedFilter;
+    private String jwt;
+    private String sessionToken;
+
+    @Setup
+    public void setUp() {
+        User user = new User(1L, "user@example.com", null, Gender.OTHER, Set.of(new Role(2L, "USER", "User")),
+                List.of(), List.of(), null, 30, "Bench", "Mark");
+        SigningKeyRing keyRing = SigningKeyRing.ofSecret(JwtService.SECRET);
+        JwtServiceImpl cachingService = new JwtServiceImpl(keyRing, 10_000, 600);
+        JwtServiceImpl uncachedService = new JwtServiceImpl(keyRing, 0, 0);
+        SessionStore sessionStore = new SessionStore(64, 1800, 86400, "");
+        AccountTombstones tombstones = new AccountTombstones(Mockito.mock(UserRepository.class), 900);
+        TokenRevocationList revocationList =
+                new TokenRevocationList(Mockito.mock(RevokedTokenRepository.class), 1000, 0.01, 60000);
+
+        cachingFilter = new JwtAuthorizationFilter(AuthModeBenchmark::noUserStore, cachingService, tombstones,
+                revocationList, sessionStore, 900);
+        uncachedFilter = new JwtAuthorizationFilter(AuthModeBenchmark::noUserStore, uncachedService, tombstones,
+                revocationList, sessionStore, 900);
+        jwt = cachingService.generateToken(user);
+        sessionToken = sessionStore.create(user);
+    }
+
+    @Benchmark
+    public Authentication jwtCached() throws ServletException, IOException {
+        return authorize(cachingFilter, jwt);
+    }
+
+    @Benchmark
+    public Authentication jwtUncached() throws ServletException, IOException {
+        return authorize(uncachedFilter, jwt);
+    }
+
+    @Benchmark
+    public Authentication opaqueSession() throws ServletException, IOException {
+        return authorize(cachingFilter, sessionToken);
+    }
+
+    private static Authentication authorize(JwtAuthorizationFilter filter, String token)
+            throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/blog-post");
+        request.addHeader("Authorization", "Bearer " + token);
+        try {
+            filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+
+    private static User noUserStore(String username) {
+        throw new UsernameNotFoundException("Fresh tokens never reach the user store: " + username);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(AuthModeBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
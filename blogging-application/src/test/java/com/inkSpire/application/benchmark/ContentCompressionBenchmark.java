@@ -0,0 +1,78 @@
+package com.inkSpire.application.benchmark;
+
+import com.inkSpire.application.compression.ContentCodec;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures what compressed storage adds to reading and writing one post body of the given size.
+ * <ul>
+ *     <li>{@code decodeCompressed}: inflating a compressed body, paid once per uncached read.</li>
+ *     <li>{@code decodePlain}: decoding the same body stored plain, the cost without compression.</li>
+ *     <li>{@code encode}: compressing a body, paid on every create and update.</li>
+ * </ul>
+ * The bodies are random prose from a small vocabulary; {@code ContentCodecTest} checks how far such text shrinks. Run
+ * with {@code main} from the IDE, or after {@code mvn test-compile} with the test classpath.
+ *
+ * @author Maran.C
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ContentCompressionBenchmark {
+
+    private static final String[] WORDS = {"the", "post", "cache", "reader", "writes", "about", "query", "index",
+            "of", "and", "database", "latency", "a", "comment", "server", "under", "load", "with", "every", "request"};
+
+    @Param({"2048", "16384", "131072"})
+    public int contentBytes;
+
+    private final ContentCodec codec = new ContentCodec(1024, 6);
+    private String content;
+    private byte[] compressed;
+    private byte[] plain;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        StringBuilder text = new StringBuilder(contentBytes);
+        while (text.length() < contentBytes) {
+            text.append(WORDS[random.nextInt(WORDS.length)]).append(random.nextInt(12) == 0 ? ". " : " ");
+        }
+        content = text.substring(0, contentBytes);
+        compressed = codec.encode(content);
+        plain = content.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public String decodeCompressed() {
+        return codec.decode(compressed);
+    }
+
+    @Benchmark
+    public String decodePlain() {
+        return codec.decode(plain);
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        return codec.encode(content);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(ContentCompressionBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,87 @@
+package com.inkSpire.application.benchmark;
+
+import com.inkSpire.application.security.SigningKeyRing;
+import com.inkSpire.application.security.VerifiedToken;
+import com.inkSpire.application.service.JwtService;
+import com.inkSpire.application.service.impl.JwtServiceImpl;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.security.Key;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the per-request cost of JWT validation as seen by the authorization filter.
+ * <ul>
+ *     <li>{@code legacyPerRequest}: the old flow, one extractUsername plus validateToken, i.e. three parser
+ *     builds, three key derivations and three signature checks.</li>
+ *     <li>{@code singleParseUncached}: one parse with a prebuilt parser, the cost of a token seen for the first time.</li>
+ *     <li>{@code cachedPerRequest}: the current flow for a token already in the verified-token cache.</li>
+ * </ul>
+ * Run with {@code main} from the IDE, or after {@code mvn test-compile} with the test classpath.
+ *
+ * @author Maran.C
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtValidationBenchmark {
+
+    private JwtService cachingService;
+    private JwtService uncachedService;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        SigningKeyRing keyRing = SigningKeyRing.ofSecret(JwtService.SECRET);
+        cachingService = new JwtServiceImpl(keyRing, 10_000, 600);
+        uncachedService = new JwtServiceImpl(keyRing, 0, 0);
+        token = cachingService.generateToken("user@example.com");
+        cachingService.verifyToken(token);
+    }
+
+    @Benchmark
+    public boolean legacyPerRequest() {
+        String username = legacyClaims(token).getSubject();
+        String validatedUsername = legacyClaims(token).getSubject();
+        Date expiration = legacyClaims(token).getExpiration();
+        return username.equals(validatedUsername) && !expiration.before(new Date());
+    }
+
+    @Benchmark
+    public VerifiedToken singleParseUncached() {
+        return uncachedService.verifyToken(token);
+    }
+
+    @Benchmark
+    public VerifiedToken cachedPerRequest() {
+        return cachingService.verifyToken(token);
+    }
+
+    private static Claims legacyClaims(String token) {
+        Key key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(JwtService.SECRET));
+        return Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(JwtValidationBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
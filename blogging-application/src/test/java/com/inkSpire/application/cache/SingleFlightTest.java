@@ -0,0 +1,97 @@
+package com.inkSpire.application.cache;
+
+import com.inkSpire.application.exception.BlogPostNotFoundException;
+import com.inkSpire.application.exception.LoadTimeoutException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightTest {
+
+    private static final int CALLERS = 8;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void concurrentCallers_shareOneLoad() throws Exception {
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>(5_000);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch joined = new CountDownLatch(CALLERS - 1);
+
+        // The leader only returns once every other caller has joined its load.
+        List<Future<String>> results = submitAll(() -> singleFlight.execute(1L, () -> {
+            loads.incrementAndGet();
+            await(joined);
+            return "post";
+        }, joined::countDown));
+
+        for (Future<String> result : results) {
+            assertEquals("post", result.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(0, joined.getCount());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void failure_isPropagatedToAllWaiters() throws Exception {
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>(5_000);
+        CountDownLatch joined = new CountDownLatch(CALLERS - 1);
+
+        List<Future<String>> results = submitAll(() -> singleFlight.execute(1L, () -> {
+            await(joined);
+            throw new BlogPostNotFoundException("missing");
+        }, joined::countDown));
+
+        for (Future<String> result : results) {
+            ExecutionException exception = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(BlogPostNotFoundException.class, exception.getCause());
+        }
+        assertEquals(0, joined.getCount());
+        assertFalse(singleFlight.isInFlight(1L));
+    }
+
+    @Test
+    void waiter_timesOut() throws Exception {
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>(50);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<String> leader = executor.submit(() -> singleFlight.execute(1L, () -> {
+            started.countDown();
+            await(release);
+            return "post";
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        assertThrows(LoadTimeoutException.class, () -> singleFlight.execute(1L, () -> "other"));
+        release.countDown();
+        assertEquals("post", leader.get(5, TimeUnit.SECONDS));
+    }
+
+    private List<Future<String>> submitAll(Callable<String> call) {
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(executor.submit(call));
+        }
+        return results;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
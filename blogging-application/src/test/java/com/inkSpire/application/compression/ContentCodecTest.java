@@ -0,0 +1,76 @@
+package com.inkSpire.application.compression;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ContentCodecTest {
+
+    private final ContentCodec codec = new ContentCodec(64, 6);
+
+    @Test
+    void longText_isCompressedAndRoundTrips() {
+        String text = "Caching rendered posts keeps the database quiet \u2014 \u00fcn\u00efc\u00f6d\u00e9 included. ".repeat(100);
+
+        byte[] stored = codec.encode(text);
+
+        assertTrue(ContentCodec.isCompressed(stored));
+        assertTrue(stored.length * 3 < text.getBytes(StandardCharsets.UTF_8).length, "Compressed to " + stored.length);
+        assertEquals(text, codec.decode(stored));
+    }
+
+    @Test
+    void prose_shrinksToLessThanHalf() {
+        String[] words = {"the", "post", "cache", "reader", "writes", "about", "query", "index", "of", "and"};
+        Random random = new Random(42);
+        StringBuilder text = new StringBuilder();
+        while (text.length() < 16384) {
+            text.append(words[random.nextInt(words.length)]).append(random.nextInt(12) == 0 ? ". " : " ");
+        }
+
+        byte[] stored = codec.encode(text.toString());
+
+        assertTrue(stored.length * 2 < text.length(), "Compressed " + text.length() + " bytes to " + stored.length);
+        assertEquals(text.toString(), codec.decode(stored));
+    }
+
+    @Test
+    void shortText_isStoredPlain() {
+        byte[] stored = codec.encode("A short post.");
+
+        assertFalse(ContentCodec.isCompressed(stored));
+        assertArrayEquals("A short post.".getBytes(StandardCharsets.UTF_8), stored);
+    }
+
+    @Test
+    void plainRowsWrittenBeforeCompression_decodeUnchanged() {
+        String legacy = "Written to the TEXT column long before compression. ".repeat(10);
+
+        assertEquals(legacy, codec.decode(legacy.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void textThatDoesNotShrink_isStoredPlain() {
+        Random random = new Random(42);
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 80; i++) {
+            text.append((char) ('!' + random.nextInt(94)));
+        }
+
+        byte[] stored = codec.encode(text.toString());
+
+        assertFalse(ContentCodec.isCompressed(stored));
+        assertEquals(text.toString(), codec.decode(stored));
+    }
+
+    @Test
+    void unknownFormatVersion_isRejected() {
+        byte[] stored = codec.encode("x".repeat(1000));
+        stored[1] = 99;
+
+        assertThrows(IllegalStateException.class, () -> codec.decode(stored));
+    }
+}
@@ -0,0 +1,404 @@
+package com.inkSpire.application.controller;
+
+import com.inkSpire.application.dto.user.UserRegistrationRequest;
+import com.inkSpire.application.entity.BlogPost;
+import com.inkSpire.application.entity.Comment;
+import com.inkSpire.application.entity.Gender;
+import com.inkSpire.application.entity.User;
+import com.inkSpire.application.index.CategoryIndex;
+import com.inkSpire.application.repository.BlogPostRepository;
+import com.inkSpire.application.repository.CommentRepository;
+import com.inkSpire.application.repository.RoleRepository;
+import com.inkSpire.application.repository.UserRepository;
+import com.inkSpire.application.service.AccountDeletionService;
+import com.inkSpire.application.service.UserService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Locks in the number of SQL statements the post listing endpoints issue, so that N+1 query patterns
+ * cannot creep back into the mappers or the repository fetch plans.
+ */
+@TestPropertySource(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.sql.init.mode=never",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.inkSpire.application.controller.SqlStatementRecorder",
+        "inkspire.account-deletion.pause-millis=0",
+        "inkspire.account-deletion.purge-interval-millis=3600000"
+})
+class BlogPostQueryCountTest extends AbstractTest {
+
+    private static final String baseUrl = "/blog-post";
+    private static final String AUTHOR_EMAIL = "author.query@example.com";
+    private static final int POST_COUNT = 30;
+
+    /**
+     * The summary projection and the categories of the page.
+     */
+    private static final long MAX_LISTING_STATEMENTS = 2;
+
+    /**
+     * The post with its author, author roles, categories, comments, comment authors and their roles,
+     * plus the lazily fetched content of the post and its comments.
+     */
+    private static final long MAX_SINGLE_POST_STATEMENTS = 7;
+
+    private Long firstPostId;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private BlogPostRepository blogPostRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private CategoryIndex categoryIndex;
+
+    @Autowired
+    private AccountDeletionService accountDeletionService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Statistics statistics;
+
+    @Override
+    @BeforeEach
+    public void setUp() {
+        super.setUp();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            User author = userRepository.save(newUser(AUTHOR_EMAIL, "Ada"));
+            User commenter = userRepository.save(newUser("commenter.query@example.com", "Grace"));
+            long now = System.currentTimeMillis();
+            firstPostId = null;
+            for (int i = 0; i < POST_COUNT; i++) {
+                Date created = new Date(now - i * 1000L);
+                BlogPost post = blogPostRepository.save(new BlogPost(
+                        null, "Title " + i, "Content " + i, created, created, author,
+                        new HashSet<>(Set.of("java", "category-" + i)), new ArrayList<>()));
+                if (firstPostId == null) {
+                    firstPostId = post.getBlogPostId();
+                }
+                commentRepository.save(new Comment(null, "First on " + i, created, created, commenter, post));
+                commentRepository.save(new Comment(null, "Second on " + i, created, created, author, post));
+            }
+        });
+        // The fixtures bypass the service layer, so index them the way startup does.
+        categoryIndex.rebuild();
+    }
+
+    @AfterEach
+    void tearDown() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            commentRepository.deleteAll();
+            blogPostRepository.deleteAll();
+            userRepository.findAll().stream()
+                    .filter(user -> user.getEmail().endsWith(".query@example.com"))
+                    .forEach(user -> {
+                        // Roles are shared, so detach them before the user is removed.
+                        user.getRoles().clear();
+                        userRepository.delete(user);
+                    });
+        });
+    }
+
+    @Test
+    void getAllPosts_usesConstantNumberOfStatements() throws Exception {
+        long smallPage = countStatements(MockMvcRequestBuilders.get(baseUrl + "/all?size=5"));
+        long largePage = countStatements(MockMvcRequestBuilders.get(baseUrl + "/all?size=25"));
+
+        assertTrue(smallPage <= MAX_LISTING_STATEMENTS, "Statements for 5 posts: " + smallPage);
+        assertEquals(smallPage, largePage);
+    }
+
+    @Test
+    @WithMockUser(username = AUTHOR_EMAIL)
+    void getAllPostsForUser_usesConstantNumberOfStatements() throws Exception {
+        long statements = countStatements(MockMvcRequestBuilders.get(baseUrl));
+
+        assertTrue(statements <= MAX_LISTING_STATEMENTS, "Statements for " + POST_COUNT + " posts: " + statements);
+    }
+
+    @Test
+    @WithMockUser(username = AUTHOR_EMAIL)
+    void getAllPostForCategories_usesConstantNumberOfStatements() throws Exception {
+        long statements = countStatements(MockMvcRequestBuilders.get(baseUrl + "/category")
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .content("{\"categories\":[\"java\"]}"));
+
+        assertTrue(statements <= MAX_LISTING_STATEMENTS, "Statements for " + POST_COUNT + " posts: " + statements);
+    }
+
+    @Test
+    @WithMockUser(username = AUTHOR_EMAIL)
+    void getAllPostForCategories_answersBooleanQueriesFromTheIndex() throws Exception {
+        MvcResult result = mockMvc.perform(MockMvcRequestBuilders.get(baseUrl + "/category")
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content("{\"allCategories\":[\"java\",\"category-3\"],\"excludedCategories\":[\"category-4\"]}"))
+                .andReturn();
+
+        assertTrue(result.getResponse().getStatus() < 300, "Unexpected status " + result.getResponse().getStatus());
+        assertTrue(result.getResponse().getContentAsString().contains("\"title\":\"Title 3\""));
+        assertFalse(result.getResponse().getContentAsString().contains("\"title\":\"Title 4\""));
+    }
+
+    @Test
+    @WithMockUser(username = AUTHOR_EMAIL)
+    void getPostPageForCategories_returnsOnePageAndTheNextCursor() throws Exception {
+        MvcResult result = mockMvc.perform(MockMvcRequestBuilders.get(baseUrl + "/category/page")
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .content("{\"categories\":[\"java\"],\"size\":10}"))
+                .andReturn();
+
+        String body = result.getResponse().getContentAsString();
+        assertTrue(body.contains("\"items\":["), body);
+        assertTrue(body.contains("\"nextCursor\":\""), body);
+    }
+
+    @Test
+    void exportPosts_streamsEveryPostWithOneCategoryQueryPerChunk() throws Exception {
+        statistics.clear();
+        MvcResult started = mockMvc.perform(MockMvcRequestBuilders.get(baseUrl + "/export")).andReturn();
+        started.getAsyncResult();
+        MvcResult result = mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(started)).andReturn();
+
+        String[] lines = result.getResponse().getContentAsString().split("\n");
+        assertEquals(POST_COUNT, lines.length);
+        assertTrue(lines[0].contains("\"authorEmail\":\"" + AUTHOR_EMAIL + "\""));
+        // The cursor query plus one category query for the single chunk.
+        assertTrue(statistics.getPrepareStatementCount() <= 2, "Statements: " + statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @WithMockUser(username = AUTHOR_EMAIL)
+    void importPosts_writesInJdbcBatches() throws Exception {
+        long smallImport = countStatements(importRequest(ndjson(5)));
+        long largeImport = countStatements(importRequest(ndjson(50)));
+
+        // Only an id pool refill of each generator may add statements; the inserts themselves are batched.
+        assertTrue(largeImport - smallImport <= 4, "Statements for 5 posts: " + smallImport + ", for 50: " + largeImport);
+    }
+
+    @Test
+    @WithMockUser(username = AUTHOR_EMAIL)
+    void importPosts_reportsRejectedLines() throws Exception {
+        String body = "{\"title\":\"Imported\",\"content\":\"Body\",\"categories\":[\"import\"]}\n"
+                + "{\"title\":\"\",\"content\":\"Body\"}\n"
+                + "\n"
+                + "not json\n";
+        MvcResult result = mockMvc.perform(importRequest(body)).andReturn();
+
+        String report = result.getResponse().getContentAsString();
+        assertTrue(report.contains("\"imported\":1"), report);
+        assertTrue(report.contains("\"failed\":2"), report);
+        assertTrue(report.contains("\"line\":2"), report);
+        assertTrue(report.contains("\"line\":4"), report);
+    }
+
+    @Test
+    void getPost_usesConstantNumberOfStatements() throws Exception {
+        long statements = countStatements(MockMvcRequestBuilders.get(baseUrl + "/" + firstPostId));
+
+        assertTrue(statements <= MAX_SINGLE_POST_STATEMENTS, "Statements for one post: " + statements);
+    }
+
+    @Test
+    void getPost_isServedFromCacheOnRepeatedReads() throws Exception {
+        countStatements(MockMvcRequestBuilders.get(baseUrl + "/" + firstPostId));
+        long statements = countStatements(MockMvcRequestBuilders.get(baseUrl + "/" + firstPostId));
+
+        assertEquals(0, statements);
+    }
+
+    @Test
+    @WithMockUser(username = AUTHOR_EMAIL)
+    void updateUser_dropsCachedPostsOfTheAuthor() throws Exception {
+        countStatements(MockMvcRequestBuilders.get(baseUrl + "/" + firstPostId));
+
+        userService.updateUser(AUTHOR_EMAIL, new UserRegistrationRequest(AUTHOR_EMAIL, "Password@123", Gender.OTHER,
+                new GregorianCalendar(1990, Calendar.JANUARY, 1).getTime(), "Augusta", "Query"));
+
+        MvcResult post = mockMvc.perform(MockMvcRequestBuilders.get(baseUrl + "/" + firstPostId)).andReturn();
+        assertTrue(post.getResponse().getContentAsString().contains("Augusta"));
+    }
+
+    @Test
+    @WithMockUser(username = AUTHOR_EMAIL)
+    void updateUser_withTheSameNameAndEmail_leavesCachedPostsAlone() {
+        SqlStatementRecorder.clear();
+
+        userService.updateUser(AUTHOR_EMAIL, new UserRegistrationRequest(AUTHOR_EMAIL, "Password@123", Gender.MALE,
+                new GregorianCalendar(1990, Calendar.JANUARY, 1).getTime(), "Ada", "Query"));
+
+        assertTrue(SqlStatementRecorder.selects().stream().noneMatch(sql -> sql.contains("blog_post")),
+                "Post ID scans: " + SqlStatementRecorder.selects());
+    }
+
+    @Test
+    @WithMockUser(username = AUTHOR_EMAIL)
+    void deleteAllPosts_deletesSetBasedInOneChunk() throws Exception {
+        long statements = countStatements(MockMvcRequestBuilders.delete(baseUrl + "/all"));
+
+        // Two counts, the post id chunk, one comment id chunk and its delete, the leftover comment check, and one
+        // delete each for category rows and posts.
+        assertTrue(statements <= 9, "Statements for " + POST_COUNT + " posts: " + statements);
+        assertEquals(0, blogPostRepository.countByAuthor_Email(AUTHOR_EMAIL));
+        assertEquals(0, commentRepository.count());
+    }
+
+    @Test
+    @WithMockUser(username = AUTHOR_EMAIL)
+    void deleteUser_hidesTheAccountAtOnceAndPurgesItLater() throws Exception {
+        countStatements(MockMvcRequestBuilders.delete("/users?un=" + AUTHOR_EMAIL));
+
+        assertTrue(userRepository.findUserByEmail(AUTHOR_EMAIL).orElseThrow().getDeletedAt() != null);
+        MvcResult listing = mockMvc.perform(MockMvcRequestBuilders.get(baseUrl + "/all")).andReturn();
+        assertFalse(listing.getResponse().getContentAsString().contains("\"title\""));
+        assertEquals(POST_COUNT, blogPostRepository.count());
+
+        accountDeletionService.purgeTombstonedAccounts();
+
+        assertEquals(0, blogPostRepository.count());
+        assertEquals(0, commentRepository.count());
+        assertFalse(userRepository.existsByEmail(AUTHOR_EMAIL));
+    }
+
+    @Test
+    void findUserByEmail_isServedFromTheSecondLevelCache() {
+        TransactionTemplate transactions = new TransactionTemplate(transactionManager);
+        transactions.executeWithoutResult(status -> userRepository.findUserByEmail(AUTHOR_EMAIL).orElseThrow());
+        statistics.clear();
+
+        User author = transactions.execute(status -> userRepository.findUserByEmail(AUTHOR_EMAIL).orElseThrow());
+
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getQueryCacheHitCount());
+        assertTrue(statistics.getSecondLevelCacheHitCount() >= 2, "Entity and role collection hits");
+        assertEquals("Ada", author.getFirstname());
+        assertEquals("ROLE_USER", author.getAuthorities().iterator().next().getAuthority());
+    }
+
+    @Test
+    @WithMockUser(username = AUTHOR_EMAIL)
+    void saveComment_neverSelectsContent() throws Exception {
+        SqlStatementRecorder.clear();
+        countStatements(MockMvcRequestBuilders.post("/comments")
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .content("{\"postId\":" + firstPostId + ",\"content\":\"Lazy\"}"));
+
+        assertNoContentSelected();
+    }
+
+    @Test
+    @WithMockUser(username = AUTHOR_EMAIL)
+    void deleteComment_neverSelectsContent() throws Exception {
+        Long commentId = commentRepository.findIdsByBlogPostIds(List.of(firstPostId), Pageable.ofSize(1)).get(0);
+
+        SqlStatementRecorder.clear();
+        countStatements(MockMvcRequestBuilders.delete("/comments?cId=" + commentId));
+
+        assertNoContentSelected();
+        assertFalse(commentRepository.existsById(commentId));
+    }
+
+    @Test
+    @WithMockUser(username = AUTHOR_EMAIL)
+    void deletePost_neverSelectsContent() throws Exception {
+        SqlStatementRecorder.clear();
+        countStatements(MockMvcRequestBuilders.delete(baseUrl + "?pId=" + firstPostId));
+
+        assertNoContentSelected();
+        assertFalse(blogPostRepository.existsById(firstPostId));
+    }
+
+    @Test
+    void getPost_selectsContentOnceForThePostAndAllComments() throws Exception {
+        SqlStatementRecorder.clear();
+        MvcResult result = mockMvc.perform(MockMvcRequestBuilders.get(baseUrl + "/" + firstPostId)).andReturn();
+
+        String body = result.getResponse().getContentAsString();
+        assertTrue(body.contains("\"content\":\"Content 0\""), body);
+        assertTrue(body.contains("\"content\":\"First on 0\""), body);
+        assertTrue(body.contains("\"content\":\"Second on 0\""), body);
+        assertEquals(1, SqlStatementRecorder.selects().stream().filter(sql -> sql.contains(".content")).count(),
+                String.join("\n", SqlStatementRecorder.selects()));
+    }
+
+    private static void assertNoContentSelected() {
+        List<String> selects = SqlStatementRecorder.selects();
+        assertFalse(selects.isEmpty());
+        assertTrue(selects.stream().noneMatch(sql -> sql.contains(".content")), String.join("\n", selects));
+    }
+
+    private static RequestBuilder importRequest(String body) {
+        return MockMvcRequestBuilders.post(baseUrl + "/import")
+                .contentType("application/x-ndjson")
+                .content(body);
+    }
+
+    private static String ndjson(int posts) {
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < posts; i++) {
+            body.append("{\"title\":\"Imported ").append(i)
+                    .append("\",\"content\":\"Body ").append(i)
+                    .append("\",\"categories\":[\"import\",\"batch-").append(i)
+                    .append("\"],\"comments\":[{\"content\":\"Comment ").append(i).append("\"}]}\n");
+        }
+        return body.toString();
+    }
+
+    private long countStatements(RequestBuilder request) throws Exception {
+        statistics.clear();
+        MvcResult result = mockMvc.perform(request).andReturn();
+        assertTrue(result.getResponse().getStatus() < 300, "Unexpected status " + result.getResponse().getStatus());
+        return statistics.getPrepareStatementCount();
+    }
+
+    private User newUser(String email, String firstname) {
+        User user = new User();
+        user.setEmail(email);
+        user.setPassword("$2a$10$at4zebsCGccyh03ODxLNIOMsKQwYfaMQlOGO9A3mZ3G8vROsv7eWC");
+        user.setGender(Gender.OTHER);
+        user.setDateOfBirth(new GregorianCalendar(1990, Calendar.JANUARY, 1).getTime());
+        user.setAge(30);
+        user.setFirstname(firstname);
+        user.setLastname("Query");
+        user.setRoles(new HashSet<>(Set.of(roleRepository.findByRoleName("USER").orElseThrow())));
+        return user;
+    }
+}
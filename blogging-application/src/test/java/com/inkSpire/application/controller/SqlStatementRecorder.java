@@ -0,0 +1,30 @@
+package com.inkSpire.application.controller;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Records the SQL Hibernate prepares, so tests can assert which columns a request reads.
+ * Registered through {@code hibernate.session_factory.statement_inspector}, which instantiates it by class name.
+ */
+public class SqlStatementRecorder implements StatementInspector {
+
+    private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+        STATEMENTS.add(sql.toLowerCase(Locale.ROOT));
+        return sql;
+    }
+
+    static void clear() {
+        STATEMENTS.clear();
+    }
+
+    static List<String> selects() {
+        return STATEMENTS.stream().filter(sql -> sql.stripLeading().startsWith("select")).toList();
+    }
+}
@@ -212,7 +212,7 @@ class UserControllerTest extends AbstractTest {
         when(manager.authenticate(authentication)).thenReturn(authentication);
 
         // Mock the behavior of jwtService
-        when(jwtService.generateAuthenticationResponse(authenticationRequest)).thenReturn(new AuthenticationResponse("token"));
+        when(jwtService.generateAuthenticationResponse(authentication)).thenReturn(new AuthenticationResponse("token"));
 
         mockMvc.perform(post("/login")
                         .contentType(MediaType.APPLICATION_JSON)
@@ -0,0 +1,61 @@
+package com.inkSpire.application.filter;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimiterTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final RateLimiter rateLimiter = new RateLimiter(1_000, Duration.ofMinutes(1));
+
+    @Test
+    void burst_isLimitedToCapacityAndRefillsOverTime() {
+        long now = 0;
+        for (int i = 2; i >= 0; i--) {
+            RateLimiter.Decision decision = rateLimiter.tryAcquire("ip:1", 3, SECOND, now);
+            assertTrue(decision.allowed());
+            assertEquals(i, decision.remaining());
+        }
+
+        RateLimiter.Decision refused = rateLimiter.tryAcquire("ip:1", 3, SECOND, now);
+        assertFalse(refused.allowed());
+        assertEquals(SECOND, refused.retryAfterNanos());
+
+        assertTrue(rateLimiter.tryAcquire("ip:1", 3, SECOND, now + SECOND).allowed());
+        assertTrue(rateLimiter.tryAcquire("ip:2", 3, SECOND, now).allowed());
+    }
+
+    @Test
+    void concurrentRequests_neverExceedCapacity() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        AtomicInteger allowed = new AtomicInteger();
+        long now = System.nanoTime();
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < 8; thread++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 1_000; i++) {
+                        if (rateLimiter.tryAcquire("user:ada", 100, SECOND * 60, now).allowed()) {
+                            allowed.incrementAndGet();
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(100, allowed.get());
+    }
+}
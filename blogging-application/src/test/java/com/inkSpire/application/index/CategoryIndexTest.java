@@ -0,0 +1,71 @@
+package com.inkSpire.application.index;
+
+import com.inkSpire.application.repository.BlogPostRepository;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CategoryIndexTest {
+
+    private static final long BEYOND_INT = Integer.MAX_VALUE + 10L;
+
+    private final CategoryIndex index = new CategoryIndex(Mockito.mock(BlogPostRepository.class));
+
+    @Test
+    void postIdsBeyondTheIntRange_areIndexed() {
+        index.put(BEYOND_INT, Set.of("java"));
+        index.put(BEYOND_INT + 1, Set.of("java", "spring"));
+
+        assertEquals(List.of(BEYOND_INT + 1, BEYOND_INT), ids(index.query(Set.of("java"), null, null)));
+        assertEquals(Set.of("java", "spring"), index.categoriesOf(BEYOND_INT + 1));
+    }
+
+    @Test
+    void query_combinesAnyAllAndNone() {
+        index.putAll(Map.of(
+                1L, Set.of("java"),
+                2L, Set.of("java", "spring"),
+                3L, Set.of("spring", "draft"),
+                4L, Set.of()));
+
+        assertEquals(List.of(4L, 3L, 2L, 1L), ids(index.query(null, null, null)));
+        assertEquals(List.of(3L, 2L, 1L), ids(index.query(Set.of("java", "spring"), null, null)));
+        assertEquals(List.of(2L), ids(index.query(null, Set.of("java", "spring"), null)));
+        assertEquals(List.of(2L), ids(index.query(Set.of("spring"), null, Set.of("draft"))));
+        assertTrue(index.query(null, Set.of("unknown"), null).isEmpty());
+    }
+
+    @Test
+    void updatesAndRemovals_replaceThePublishedBitmaps() {
+        index.put(1L, Set.of("java"));
+        Roaring64Bitmap before = index.query(Set.of("java"), null, null);
+
+        index.put(1L, Set.of("spring"));
+        index.put(2L, Set.of("java"));
+        index.removeAll(List.of(2L));
+
+        assertEquals(List.of(1L), ids(before));
+        assertTrue(index.query(Set.of("java"), null, null).isEmpty());
+        assertEquals(Map.of("spring", 1L), index.countByCategory());
+    }
+
+    @Test
+    void pageDescending_continuesBelowTheCursor() {
+        Roaring64Bitmap posts = Roaring64Bitmap.bitmapOf(1L, 5L, 7L, BEYOND_INT, BEYOND_INT + 2);
+
+        assertEquals(List.of(BEYOND_INT + 2, BEYOND_INT), CategoryIndex.pageDescending(posts, null, 2));
+        assertEquals(List.of(7L, 5L), CategoryIndex.pageDescending(posts, BEYOND_INT, 2));
+        assertEquals(List.of(1L), CategoryIndex.pageDescending(posts, 5L, 2));
+        assertTrue(CategoryIndex.pageDescending(posts, 1L, 2).isEmpty());
+    }
+
+    private static List<Long> ids(Roaring64Bitmap posts) {
+        return CategoryIndex.pageDescending(posts, null, Integer.MAX_VALUE);
+    }
+}
@@ -0,0 +1,45 @@
+package com.inkSpire.application.migration;
+
+import com.inkSpire.application.entity.BlogPost;
+import com.inkSpire.application.repository.BlogPostRepository;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class ExcerptBackfillTest {
+
+    private final BlogPostRepository repository = Mockito.mock(BlogPostRepository.class);
+    private final ExcerptBackfill backfill =
+            new ExcerptBackfill(repository, Mockito.mock(PlatformTransactionManager.class), 2);
+
+    @Test
+    void fillsOneBatchPerRun_thenStops() {
+        String longContent = "x".repeat(BlogPost.EXCERPT_LENGTH + 50);
+        when(repository.findIdsWithoutExcerptAfter(eq(0L), any(Pageable.class))).thenReturn(List.of(1L, 2L));
+        when(repository.findIdsWithoutExcerptAfter(eq(2L), any(Pageable.class))).thenReturn(List.of(5L));
+        when(repository.findIdsWithoutExcerptAfter(eq(5L), any(Pageable.class))).thenReturn(List.of());
+        when(repository.findContentsByIds(List.of(1L, 2L)))
+                .thenReturn(List.of(new Object[]{1L, "Short post."}, new Object[]{2L, longContent}));
+        when(repository.findContentsByIds(List.of(5L))).thenReturn(List.<Object[]>of(new Object[]{5L, "Another."}));
+
+        backfill.fillNextBatch();
+
+        verify(repository).updateExcerpt(1L, "Short post.");
+        verify(repository).updateExcerpt(2L, "x".repeat(BlogPost.EXCERPT_LENGTH));
+        verify(repository, never()).updateExcerpt(eq(5L), any());
+
+        backfill.fillNextBatch();
+        backfill.fillNextBatch();
+        backfill.fillNextBatch();
+
+        verify(repository).updateExcerpt(5L, "Another.");
+        verify(repository, times(3)).findIdsWithoutExcerptAfter(any(), any(Pageable.class));
+    }
+}
@@ -0,0 +1,93 @@
+package com.inkSpire.application.search;
+
+import com.inkSpire.application.dto.blogPost.PostSearchResultDto;
+import com.inkSpire.application.repository.BlogPostRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mockito;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PostSearchIndexTest {
+
+    @TempDir
+    Path indexDir;
+
+    private PostSearchIndex index;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        index = new PostSearchIndex(Mockito.mock(BlogPostRepository.class), indexDir.toString(), 100);
+        index.index(1L, "Running Spring Boot", "Notes on running services with Spring Boot and Hibernate.");
+        index.index(2L, "Garden diary", "The boot of the car was full of spring flowers.");
+        index.index(3L, "Caching", "A read-through cache in front of MySQL.");
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        index.close();
+    }
+
+    @Test
+    void search_matchesStemmedTermsAndRanksTitleHitsFirst() {
+        List<PostSearchResultDto> hits = index.search("runs spring", 0, 10);
+
+        assertEquals(1L, hits.get(0).getBlogPostId());
+        assertTrue(hits.get(0).getTitle().contains("<mark>Running</mark>"));
+    }
+
+    @Test
+    void search_supportsPhraseQueries() {
+        List<PostSearchResultDto> hits = index.search("\"spring boot\"", 0, 10);
+
+        assertEquals(List.of(1L), hits.stream().map(PostSearchResultDto::getBlogPostId).toList());
+        assertNotNull(hits.get(0).getSnippet());
+    }
+
+    @Test
+    void removeAll_dropsDocuments() {
+        index.removeAll(List.of(3L));
+
+        assertTrue(index.search("cache", 0, 10).isEmpty());
+    }
+
+    @Test
+    void reopen_keepsCommittedDocuments() throws Exception {
+        index.close();
+        index = new PostSearchIndex(Mockito.mock(BlogPostRepository.class), indexDir.toString(), 100);
+
+        assertEquals(3L, index.search("cache", 0, 10).get(0).getBlogPostId());
+    }
+
+    @Test
+    void rebuildIfStale_reindexesPostsModifiedSinceTheLastCommit() throws Exception {
+        index.close();
+        BlogPostRepository blogPostRepository = Mockito.mock(BlogPostRepository.class);
+        Mockito.when(blogPostRepository.countByAuthor_DeletedAtIsNull()).thenReturn(3L);
+        Mockito.when(blogPostRepository.findSearchableModifiedSince(Mockito.any(), Mockito.anyLong(), Mockito.any()))
+                .thenReturn(List.<Object[]>of(new Object[]{3L, "Caching", "A write-behind queue in front of MySQL."}));
+        index = new PostSearchIndex(blogPostRepository, indexDir.toString(), 100);
+
+        index.rebuildIfStale();
+
+        assertEquals(3L, index.search("queue", 0, 10).get(0).getBlogPostId());
+        Mockito.verify(blogPostRepository, Mockito.never()).findSearchableAfter(Mockito.anyLong(), Mockito.any());
+    }
+
+    @Test
+    void search_rejectsInvalidQueries() {
+        assertThrows(IllegalArgumentException.class, () -> index.search("title:(", 0, 10));
+    }
+
+    @Test
+    void search_rejectsPagesBeyondTheResultWindow() {
+        assertTrue(index.search("cache", 90, 10).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> index.search("cache", 95, 10));
+        assertThrows(IllegalArgumentException.class, () -> index.search("cache", (long) Integer.MAX_VALUE * 10, 10));
+    }
+}
@@ -0,0 +1,34 @@
+package com.inkSpire.application.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CostAwareBCryptPasswordEncoderTest {
+
+    private final CostAwareBCryptPasswordEncoder encoder = new CostAwareBCryptPasswordEncoder(5);
+
+    @Test
+    void hashesOfAnyCost_stillVerify() {
+        String olderHash = new BCryptPasswordEncoder(4).encode("secret");
+
+        assertTrue(encoder.matches("secret", olderHash));
+        assertFalse(encoder.matches("wrong", olderHash));
+    }
+
+    @Test
+    void upgradeEncoding_flagsEveryOtherCost() {
+        assertTrue(encoder.upgradeEncoding(new BCryptPasswordEncoder(4).encode("secret")));
+        assertTrue(encoder.upgradeEncoding(new BCryptPasswordEncoder(6).encode("secret")));
+        assertFalse(encoder.upgradeEncoding(encoder.encode("secret")));
+        assertFalse(encoder.upgradeEncoding(null));
+    }
+
+    @Test
+    void calibrate_staysWithinBounds() {
+        int strength = CostAwareBCryptPasswordEncoder.calibrate(1, 4, 6);
+
+        assertEquals(4, strength);
+    }
+}
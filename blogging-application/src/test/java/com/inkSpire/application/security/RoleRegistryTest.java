@@ -0,0 +1,63 @@
+package com.inkSpire.application.security;
+
+import com.inkSpire.application.entity.Gender;
+import com.inkSpire.application.entity.Role;
+import com.inkSpire.application.entity.User;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RoleRegistryTest {
+
+    private final RoleRegistry registry = new RoleRegistry();
+
+    @Test
+    void find_matchesNamesCaseInsensitively() {
+        registry.replaceAll(List.of(new Role(1L, "ADMIN", "Admin"), new Role(2L, "USER", "User")));
+
+        assertEquals(2L, registry.find("user").orElseThrow().getRoleID());
+        assertTrue(registry.find("guest").isEmpty());
+    }
+
+    @Test
+    void put_replacesRenamedRoleInOneSwap() {
+        registry.replaceAll(List.of(new Role(1L, "ADMIN", "Admin"), new Role(2L, "USER", "User")));
+
+        registry.put("USER", new Role(2L, "MEMBER", "Member"));
+
+        assertTrue(registry.find("USER").isEmpty());
+        assertEquals("Member", registry.find("MEMBER").orElseThrow().getRoleDescription());
+        assertEquals(List.of(1L, 2L), registry.all().stream().map(Role::getRoleID).toList());
+    }
+
+    @Test
+    void find_returnsCopiesThatDoNotLeakIntoTheRegistry() {
+        registry.replaceAll(List.of(new Role(1L, "ADMIN", "Admin")));
+
+        registry.find("ADMIN").orElseThrow().setRoleDescription("Changed");
+
+        assertEquals("Admin", registry.find("ADMIN").orElseThrow().getRoleDescription());
+    }
+
+    @Test
+    void users_shareAuthorityInstances() {
+        Role role = new Role(2L, "USER", "User");
+        User first = newUser(role);
+        User second = newUser(role);
+
+        assertSame(first.getAuthorities().iterator().next(), second.getAuthorities().iterator().next());
+        assertSame(first.getAuthorities(), first.getAuthorities());
+        assertSame(RoleRegistry.authority("ROLE_USER"), first.getAuthorities().iterator().next());
+    }
+
+    private static User newUser(Role role) {
+        User user = new User();
+        user.setEmail("registry@example.com");
+        user.setGender(Gender.OTHER);
+        user.setRoles(Set.of(role));
+        return user;
+    }
+}
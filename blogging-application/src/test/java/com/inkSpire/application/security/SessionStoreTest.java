@@ -0,0 +1,64 @@
+package com.inkSpire.application.security;
+
+import com.inkSpire.application.entity.Gender;
+import com.inkSpire.application.entity.Role;
+import com.inkSpire.application.entity.User;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SessionStoreTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void resolve_returnsThePrincipalUntilTheSessionIsRemoved() {
+        SessionStore store = new SessionStore(4, 1800, 86400, "");
+        String token = store.create(newUser());
+
+        UserPrincipal principal = store.resolve(token);
+        assertEquals(7L, principal.getUserId());
+        assertEquals("session@example.com", principal.getName());
+        assertSame(RoleRegistry.authority("ROLE_USER"), principal.getAuthorities().get(0));
+        assertTrue(SessionStore.isSessionToken(token));
+
+        assertTrue(store.remove(token));
+        assertNull(store.resolve(token));
+        assertNull(store.resolve("unknown"));
+    }
+
+    @Test
+    void expiredSessions_areRejectedAndSwept() {
+        SessionStore store = new SessionStore(4, 0, 86400, "");
+        String token = store.create(newUser());
+
+        assertEquals(1, store.size());
+        store.sweep();
+        assertEquals(0, store.size());
+        assertNull(store.resolve(token));
+    }
+
+    @Test
+    void snapshot_restoresLiveSessionsAfterARestart() {
+        String snapshotFile = directory.resolve("sessions.bin").toString();
+        SessionStore store = new SessionStore(4, 1800, 86400, snapshotFile);
+        String token = store.create(newUser());
+        store.writeSnapshot();
+
+        SessionStore restarted = new SessionStore(16, 1800, 86400, snapshotFile);
+        restarted.readSnapshot();
+
+        assertEquals(7L, restarted.resolve(token).getUserId());
+    }
+
+    private static User newUser() {
+        return new User(7L, "session@example.com", null, Gender.OTHER, Set.of(new Role(2L, "USER", "User")),
+                List.of(), List.of(), null, 30, "Session", "User");
+    }
+}
@@ -0,0 +1,109 @@
+package com.inkSpire.application.security;
+
+import com.inkSpire.application.service.JwtService;
+import com.inkSpire.application.service.impl.JwtServiceImpl;
+import io.jsonwebtoken.security.SignatureException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.crypto.spec.SecretKeySpec;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyStore;
+import java.security.SecureRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SigningKeyRingTest {
+
+    private static final String PASSWORD = "changeit";
+
+    @TempDir
+    Path directory;
+
+    private SigningKeyRing keyRing;
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (keyRing != null) {
+            keyRing.close();
+        }
+    }
+
+    @Test
+    void rotation_keepsOldTokensValidUntilTheirKeyIsRemoved() throws Exception {
+        Path keystore = directory.resolve("jwt-keys.p12");
+        KeyStore store = KeyStore.getInstance("PKCS12");
+        store.load(null, null);
+        addKey(store, "k1");
+        save(store, keystore);
+
+        keyRing = new SigningKeyRing(keystore.toString(), PASSWORD, "", true, JwtService.SECRET);
+        JwtServiceImpl jwtService = new JwtServiceImpl(keyRing, 100, 600);
+        AtomicInteger removals = new AtomicInteger();
+        keyRing.onKeysRemoved(removals::incrementAndGet);
+        String oldToken = jwtService.generateToken("rotation@example.com");
+        assertEquals("k1", keyRing.activeKey().keyId());
+
+        addKey(store, "k2");
+        save(store, keystore);
+        keyRing.reload();
+
+        assertEquals("k2", keyRing.activeKey().keyId());
+        assertEquals("rotation@example.com", jwtService.verifyToken(oldToken).getSubject());
+        assertEquals(0, removals.get());
+
+        store.deleteEntry("k1");
+        save(store, keystore);
+        keyRing.reload();
+
+        assertTrue(removals.get() > 0);
+        assertNull(keyRing.verificationKey("k1"));
+        assertThrows(SignatureException.class, () -> jwtService.verifyToken(oldToken));
+        String newToken = jwtService.generateToken("rotation@example.com");
+        assertEquals("rotation@example.com", jwtService.verifyToken(newToken).getSubject());
+    }
+
+    @Test
+    void unreadableKeystore_keepsTheCurrentKeys() throws Exception {
+        Path keystore = directory.resolve("jwt-keys.p12");
+        KeyStore store = KeyStore.getInstance("PKCS12");
+        store.load(null, null);
+        addKey(store, "k1");
+        save(store, keystore);
+        keyRing = new SigningKeyRing(keystore.toString(), PASSWORD, "", true, JwtService.SECRET);
+
+        Files.write(keystore, new byte[]{1, 2, 3});
+        keyRing.reload();
+
+        assertEquals("k1", keyRing.activeKey().keyId());
+        assertNotNull(keyRing.verificationKey("k1"));
+    }
+
+    @Test
+    void unversionedTokens_useTheLegacyKeyUnlessDisabled() throws Exception {
+        SigningKeyRing legacy = SigningKeyRing.ofSecret(JwtService.SECRET);
+        assertSame(legacy.verificationKey(null), legacy.verificationKey(SigningKeyRing.LEGACY_KEY_ID));
+
+        SigningKeyRing strict = new SigningKeyRing("", "", "", false, JwtService.SECRET);
+        assertNull(strict.verificationKey(null));
+    }
+
+    private static void addKey(KeyStore store, String alias) throws Exception {
+        byte[] secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+        store.setEntry(alias, new KeyStore.SecretKeyEntry(new SecretKeySpec(secret, "HmacSHA256")),
+                new KeyStore.PasswordProtection(PASSWORD.toCharArray()));
+        // Creation dates have millisecond resolution; keep the newest key strictly newer.
+        Thread.sleep(5);
+    }
+
+    private static void save(KeyStore store, Path file) throws Exception {
+        try (OutputStream out = Files.newOutputStream(file)) {
+            store.store(out, PASSWORD.toCharArray());
+        }
+    }
+}
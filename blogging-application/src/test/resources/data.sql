@@ -21,7 +21,8 @@ CREATE TABLE User
     date_of_birth DATE         NOT NULL,
     age           INT          NOT NULL,
     firstname     VARCHAR(255) NOT NULL,
-    lastname      VARCHAR(255) NOT NULL
+    lastname      VARCHAR(255) NOT NULL,
+    deleted_at    DATETIME
 );
 
 -- Create the UserRole join table
@@ -39,13 +40,43 @@ CREATE TABLE BlogPost
 (
     blog_post_id       BIGINT AUTO_INCREMENT PRIMARY KEY,
     title              VARCHAR(255) NOT NULL,
-    content            TEXT         NOT NULL,
+    content            LONGBLOB     NOT NULL,
     creation_date      TIMESTAMP    NOT NULL,
     last_modified_date TIMESTAMP    NOT NULL,
+    excerpt            VARCHAR(200),
     user_id            BIGINT,
     FOREIGN KEY (user_id) REFERENCES User (user_id)
 );
 
+-- Index backing the keyset pagination of the post listing
+CREATE INDEX idx_blog_post_creation_date_id ON BlogPost (creation_date, blog_post_id);
+
+-- Pooled id generators of BlogPost and Comment; MySQL has no sequences, so Hibernate keeps them in tables
+CREATE TABLE blog_post_seq
+(
+    next_val BIGINT
+);
+INSERT INTO blog_post_seq
+VALUES (1);
+
+CREATE TABLE comment_seq
+(
+    next_val BIGINT
+);
+INSERT INTO comment_seq
+VALUES (1);
+
+-- Tokens revoked before their expiry; rows are pruned once the token would have expired
+CREATE TABLE revoked_token
+(
+    token_id   VARCHAR(36) PRIMARY KEY,
+    user_id    BIGINT,
+    expires_at DATETIME NOT NULL,
+    revoked_at DATETIME NOT NULL
+);
+CREATE INDEX idx_revoked_token_expires_at ON revoked_token (expires_at);
+CREATE INDEX idx_revoked_token_revoked_at ON revoked_token (revoked_at);
+
 -- Create the Comment table
 CREATE TABLE Comment
 (